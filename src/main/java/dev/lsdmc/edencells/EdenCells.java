@@ -9,16 +9,27 @@ import dev.lsdmc.edencells.commands.TeleportNPCCommands;
 import dev.lsdmc.edencells.commands.SecurityCommands;
 import dev.lsdmc.edencells.managers.DoorManager;
 import dev.lsdmc.edencells.managers.CellManager;
+import dev.lsdmc.edencells.managers.AccessIndex;
+import dev.lsdmc.edencells.managers.OwnerIndex;
+import dev.lsdmc.edencells.managers.RegionIndex;
+import dev.lsdmc.edencells.managers.VacancyIndex;
 import dev.lsdmc.edencells.managers.TeleportNPCManager;
 import dev.lsdmc.edencells.managers.SyncManager;
 import dev.lsdmc.edencells.gui.CellGUIManager;
+import dev.lsdmc.edencells.gui.GuiAssets;
+import dev.lsdmc.edencells.gui.GuiSessionRegistry;
 import dev.lsdmc.edencells.listeners.CellSignListener;
 import dev.lsdmc.edencells.listeners.DoorInteractionListener;
 import dev.lsdmc.edencells.listeners.GUIListener;
+import dev.lsdmc.edencells.listeners.PlayerSessionListener;
+import dev.lsdmc.edencells.listeners.RegionEventListener;
 import dev.lsdmc.edencells.models.CellGroupManager;
 import dev.lsdmc.edencells.security.SecurityManager;
 import dev.lsdmc.edencells.utils.ConfigManager;
 import dev.lsdmc.edencells.utils.Constants;
+import dev.lsdmc.edencells.utils.LuckPermsAdapter;
+import dev.lsdmc.edencells.utils.MessageCatalog;
+import dev.lsdmc.edencells.utils.PermissionCache;
 
 import net.alex9849.arm.AdvancedRegionMarket;
 import net.alex9849.arm.regions.Region;
@@ -29,6 +40,11 @@ import org.bukkit.event.Listener;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 
 
 public class EdenCells extends JavaPlugin implements Listener {
@@ -41,11 +57,21 @@ public class EdenCells extends JavaPlugin implements Listener {
     private DoorManager doorManager;
     private TeleportNPCManager teleportNPCManager;
     private CellGUIManager guiManager;
+    private GuiAssets guiAssets;
+    private GuiSessionRegistry guiSessions;
     private CellSignListener cellSignListener;
     private GUIListener guiListener;
     private CellGroupManager cellGroupManager;
     private ConfigManager configManager;
     private SyncManager syncManager;
+    private RegionIndex regionIndex;
+    private VacancyIndex vacancyIndex;
+    private OwnerIndex ownerIndex;
+    private AccessIndex accessIndex;
+    private PermissionCache permissionCache;
+    private LuckPermsAdapter luckPermsAdapter;
+    private MessageCatalog messageCatalog;
+    private ExecutorService asyncExecutor;
     
     @Override
     public void onEnable() {
@@ -90,15 +116,34 @@ public class EdenCells extends JavaPlugin implements Listener {
             this.configManager = new ConfigManager(this);
             
             this.configManager.reload();
+            this.messageCatalog = new MessageCatalog(this);
+            
+            
+            AtomicInteger threadCount = new AtomicInteger();
+            this.asyncExecutor = Executors.newFixedThreadPool(Math.max(1, configManager.getThreadPoolSize()), runnable -> {
+                Thread thread = new Thread(runnable, "EdenCells-Async-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            
+            
+            this.vacancyIndex = new VacancyIndex(this);
+            this.ownerIndex = new OwnerIndex(this);
+            this.accessIndex = new AccessIndex(this);
+            this.permissionCache = new PermissionCache(this);
+            this.luckPermsAdapter = new LuckPermsAdapter(this);
+            this.regionIndex = new RegionIndex(this, arm);
             
             
             this.securityManager = new SecurityManager(this);
             this.cellManager = new CellManager(this, arm, economy, securityManager);
             this.cellGroupManager = new CellGroupManager(this);
+            this.regionIndex.start();
             this.doorManager = new DoorManager(this, cellManager, securityManager);
             this.teleportNPCManager = new TeleportNPCManager(this, cellManager, economy, securityManager);
             this.teleportNPCManager.enable();
             this.syncManager = new SyncManager(this);
+            this.luckPermsAdapter.enable();
             
             
             if (getServer().getPluginManager().isPluginEnabled("Citizens")) {
@@ -113,6 +158,8 @@ public class EdenCells extends JavaPlugin implements Listener {
             }
             
             
+            this.guiAssets = new GuiAssets(this);
+            this.guiSessions = new GuiSessionRegistry(this);
             try {
                 this.guiManager = new CellGUIManager(this);
             } catch (Exception e) {
@@ -140,6 +187,8 @@ public class EdenCells extends JavaPlugin implements Listener {
                 getServer().getPluginManager().registerEvents(adminGroupPromptListener, this);
                 getServer().getPluginManager().registerEvents(adminPlayerPrompt, this);
                 getServer().getPluginManager().registerEvents(doorInteractionListener, this);
+                getServer().getPluginManager().registerEvents(new RegionEventListener(this), this);
+                getServer().getPluginManager().registerEvents(new PlayerSessionListener(this), this);
             } catch (Exception e) {
                 getLogger().severe("Failed to initialize listeners: " + e.getMessage());
                 throw e;
@@ -213,14 +262,13 @@ public class EdenCells extends JavaPlugin implements Listener {
         getLogger().info("Disabling EdenCells...");
         
         try {
-            
             if (cellGroupManager != null) {
-                cellGroupManager.saveGroups();
+                cellGroupManager.disable();
                 getLogger().info("Saved cell group configurations");
             }
             
             if (doorManager != null) {
-                doorManager.saveDoors();
+                doorManager.disable();
                 getLogger().info("Saved door configurations");
             }
             
@@ -230,11 +278,23 @@ public class EdenCells extends JavaPlugin implements Listener {
             }
             
             
-            if (guiManager != null) {
-                dev.lsdmc.edencells.gui.CellGUI.cleanupSessions();
+            if (guiSessions != null) {
+                guiSessions.shutdown();
                 getLogger().info("Cleaned up GUI sessions");
             }
             
+            if (securityManager != null) {
+                securityManager.shutdown();
+                getLogger().info("Flushed audit log");
+            }
+            
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdown();
+                if (!asyncExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    getLogger().warning("Timed out waiting for background tasks to finish");
+                }
+            }
+            
             getLogger().info("EdenCells disabled successfully");
             
         } catch (Exception e) {
@@ -288,6 +348,14 @@ public class EdenCells extends JavaPlugin implements Listener {
         return teleportNPCManager;
     }
     
+    public GuiAssets getGuiAssets() {
+        return guiAssets;
+    }
+    
+    public GuiSessionRegistry getGuiSessions() {
+        return guiSessions;
+    }
+    
     public CellGUIManager getGuiManager() {
         return guiManager;
     }
@@ -305,6 +373,38 @@ public class EdenCells extends JavaPlugin implements Listener {
         return syncManager;
     }
     
+    public RegionIndex getRegionIndex() {
+        return regionIndex;
+    }
+    
+    public VacancyIndex getVacancyIndex() {
+        return vacancyIndex;
+    }
+    
+    public OwnerIndex getOwnerIndex() {
+        return ownerIndex;
+    }
+    
+    public AccessIndex getAccessIndex() {
+        return accessIndex;
+    }
+    
+    public PermissionCache getPermissionCache() {
+        return permissionCache;
+    }
+    
+    public MessageCatalog getMessageCatalog() {
+        return messageCatalog;
+    }
+    
+    public LuckPermsAdapter getLuckPermsAdapter() {
+        return luckPermsAdapter;
+    }
+    
+    public ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+    
     public double getMemberAddCost() {
         return getConfig().getDouble("economy.members.add-cost", 100.0);
     }
@@ -320,7 +420,27 @@ public class EdenCells extends JavaPlugin implements Listener {
         if (configManager != null) {
             configManager.reload();
         }
+        
+        if (messageCatalog != null) {
+            messageCatalog.reload();
+        }
+        
+        if (permissionCache != null) {
+            permissionCache.reload();
+        }
         
+        if (guiAssets != null) {
+            guiAssets.rebuild();
+        }
+        
+        if (securityManager != null) {
+            securityManager.reloadAuditSettings();
+            securityManager.reloadRateLimits();
+        }
+        
+        if (regionIndex != null) {
+            regionIndex.rebuild();
+        }
     }
     
     
@@ -330,6 +450,10 @@ public class EdenCells extends JavaPlugin implements Listener {
         }
         
         try {
+            if (regionIndex != null) {
+                return regionIndex.find(regionId);
+            }
+            
             for (Region r : arm.getRegionManager()) {
                 if (r != null && r.getRegion() != null && 
                     r.getRegion().getId().equalsIgnoreCase(regionId.trim())) {
@@ -359,7 +483,10 @@ public class EdenCells extends JavaPlugin implements Listener {
         if (message == null) return;
         
         try {
-            if (getConfig().getBoolean(Constants.Config.DEBUG, false)) {
+            boolean enabled = configManager != null
+                ? configManager.snapshot().debug()
+                : getConfig().getBoolean(Constants.Config.DEBUG, false);
+            if (enabled) {
                 getLogger().info("[DEBUG] " + message);
             }
         } catch (Exception e) {
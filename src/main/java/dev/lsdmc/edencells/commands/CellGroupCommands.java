@@ -1,6 +1,7 @@
 package dev.lsdmc.edencells.commands;
 
 import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.managers.RegionPattern;
 import dev.lsdmc.edencells.models.CellGroup;
 import dev.lsdmc.edencells.models.CellGroupManager;
 import dev.lsdmc.edencells.utils.Constants;
@@ -13,7 +14,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
-import net.alex9849.arm.AdvancedRegionMarket;
 import net.alex9849.arm.regions.Region;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -169,13 +169,8 @@ public final class CellGroupCommands implements CommandExecutor, TabCompleter {
       String subCommand = args[0].toLowerCase();
       if (Arrays.asList("add", "remove").contains(subCommand) && 
           groupManager.getGroup(args[1]) != null) {
-        AdvancedRegionMarket arm = AdvancedRegionMarket.getInstance();
-        if (arm != null) {
-          List<String> regionIds = new ArrayList<>();
-          for (Region region : arm.getRegionManager()) {
-            regionIds.add(region.getRegion().getId()); 
-          }
-          return filterStartingWith(regionIds, args[2]);
+        if (plugin.getRegionIndex() != null) {
+          return plugin.getRegionIndex().complete(args[2], Constants.Validation.MAX_TAB_COMPLETIONS);
         } 
       } else if (subCommand.equals("bulkadd")) {
         
@@ -305,45 +300,37 @@ public final class CellGroupCommands implements CommandExecutor, TabCompleter {
     
     MessageUtils.sendInfo(player, "Processing bulk add with pattern: %s", pattern);
     
-    List<String> matchingRegions = findRegionsByPattern(pattern);
-    if (matchingRegions.isEmpty()) {
-      MessageUtils.sendError(player, "No regions found matching pattern: %s", pattern);
+    RegionPattern compiled;
+    try {
+      compiled = RegionPattern.compile(pattern);
+    } catch (IllegalArgumentException e) {
+      MessageUtils.sendError(player, "Invalid pattern: %s", pattern);
       return true;
     }
     
-    
-    if (matchingRegions.size() > 500) {
-      MessageUtils.sendError(player, "Pattern matches too many regions (%d). Please use a more specific pattern.", 
-        matchingRegions.size());
+    List<Region> matchingRegions = plugin.getRegionIndex() != null
+      ? compiled.resolve(plugin.getRegionIndex())
+      : Collections.emptyList();
+    if (matchingRegions.isEmpty()) {
+      MessageUtils.sendError(player, "No regions found matching pattern: %s", pattern);
       return true;
     }
     
-    int added = 0;
+    List<String> toAdd = new ArrayList<>(matchingRegions.size());
     int skipped = 0;
-    int errors = 0;
-    
-    for (String regionId : matchingRegions) {
-      
-      Region region = plugin.findRegionById(regionId);
-      if (region == null) {
-        errors++;
-        continue;
-      }
-      
-      
+    
+    for (Region region : matchingRegions) {
+      String regionId = region.getRegion().getId();
       if (group.containsRegion(regionId)) {
         skipped++;
-        continue;
-      }
-      
-      
-      if (group.addRegion(regionId)) {
-        added++;
       } else {
-        errors++;
+        toAdd.add(regionId);
       }
     }
     
+    int added = group.addRegions(toAdd);
+    int errors = toAdd.size() - added;
+    
     
     if (added > 0) {
       groupManager.saveGroups();
@@ -657,87 +644,4 @@ public final class CellGroupCommands implements CommandExecutor, TabCompleter {
     
     return true;
   }
-  
-  
-  private List<String> findRegionsByPattern(String pattern) {
-    AdvancedRegionMarket arm = AdvancedRegionMarket.getInstance();
-    if (arm == null) {
-      return new ArrayList<>();
-    }
-    
-    List<String> matching = new ArrayList<>();
-    
-    for (Region region : arm.getRegionManager()) {
-      String regionId = region.getRegion().getId();
-      if (matchesPattern(regionId, pattern)) {
-        matching.add(regionId);
-      }
-    }
-    
-    return matching;
-  }
-  
-  
-  private boolean matchesPattern(String regionId, String pattern) {
-    
-    if (pattern.contains("-") && !pattern.startsWith("-") && !pattern.endsWith("-")) {
-      return matchesRangePattern(regionId, pattern);
-    }
-    
-    
-    if (pattern.contains("*")) {
-      return matchesWildcardPattern(regionId, pattern);
-    }
-    
-    
-    return regionId.equals(pattern);
-  }
-  
-  
-  private boolean matchesRangePattern(String regionId, String pattern) {
-    try {
-      String[] parts = pattern.split("-");
-      if (parts.length != 2) return false;
-      
-      String firstPart = parts[0];
-      String prefix = "";
-      int startNum = 0;
-      
-      
-      for (int i = 0; i < firstPart.length(); i++) {
-        if (Character.isDigit(firstPart.charAt(i))) {
-          prefix = firstPart.substring(0, i);
-          startNum = Integer.parseInt(firstPart.substring(i));
-          break;
-        }
-      }
-      
-      int endNum = Integer.parseInt(parts[1]);
-      
-      
-      if (!regionId.startsWith(prefix)) return false;
-      
-      String numPart = regionId.substring(prefix.length());
-      if (numPart.isEmpty()) return false;
-      
-      try {
-        int regionNum = Integer.parseInt(numPart);
-        return regionNum >= startNum && regionNum <= endNum;
-      } catch (NumberFormatException e) {
-        return false;
-      }
-      
-    } catch (Exception e) {
-      return false;
-    }
-  }
-  
-  
-  private boolean matchesWildcardPattern(String regionId, String pattern) {
-    
-    String regex = pattern.replace("*", ".*").replace("?", ".");
-    return regionId.matches(regex);
-  }
 }
-
-
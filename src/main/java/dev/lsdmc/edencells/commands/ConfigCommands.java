@@ -217,6 +217,13 @@ public final class ConfigCommands implements CommandExecutor, TabCompleter {
         
         plugin.getConfig().set(path, newValue);
         plugin.saveConfig();
+        plugin.getConfigManager().refresh();
+        plugin.getMessageCatalog().reload();
+        if (path.startsWith(Constants.Config.RATE_LIMIT_PREFIX)) {
+            plugin.getSecurityManager().reloadRateLimits();
+        } else if (path.startsWith("security.audit.")) {
+            plugin.getSecurityManager().reloadAuditSettings();
+        }
         
         
         applyConfigChange(path, newValue);
@@ -4,7 +4,6 @@ import dev.lsdmc.edencells.EdenCells;
 import dev.lsdmc.edencells.managers.DoorManager;
 import dev.lsdmc.edencells.utils.Constants;
 import dev.lsdmc.edencells.utils.MessageUtils;
-import net.alex9849.arm.AdvancedRegionMarket;
 import net.alex9849.arm.regions.Region;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -235,11 +234,8 @@ public class DoorCommands implements CommandExecutor, TabCompleter {
             } else if (args.length == 2 && args[0].equalsIgnoreCase("link")) {
                 
                 try {
-                    AdvancedRegionMarket arm = AdvancedRegionMarket.getInstance();
-                    if (arm != null) {
-                        for (Region region : arm.getRegionManager()) {
-                            completions.add(region.getRegion().getId());
-                        }
+                    if (plugin.getRegionIndex() != null) {
+                        return plugin.getRegionIndex().complete(args[1], Constants.Validation.MAX_TAB_COMPLETIONS);
                     }
                 } catch (Exception e) {
                     plugin.getLogger().warning("Failed to get regions for tab completion: " + e.getMessage());
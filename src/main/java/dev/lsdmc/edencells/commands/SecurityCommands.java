@@ -1,7 +1,11 @@
 package dev.lsdmc.edencells.commands;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import dev.lsdmc.edencells.EdenCells;
 import dev.lsdmc.edencells.managers.SyncManager;
+import dev.lsdmc.edencells.security.AuditSearch;
+import dev.lsdmc.edencells.security.AuditWriter;
 import dev.lsdmc.edencells.utils.Constants;
 import dev.lsdmc.edencells.utils.MessageUtils;
 import dev.lsdmc.edencells.utils.PermissionManager;
@@ -11,7 +15,12 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
@@ -19,6 +28,13 @@ public final class SecurityCommands implements CommandExecutor, TabCompleter {
     
     private final EdenCells plugin;
     
+    
+    private static final int AUDIT_PAGE_SIZE = 10;
+    private final Cache<String, List<String>> auditResults = Caffeine.newBuilder()
+        .expireAfterAccess(10, TimeUnit.MINUTES)
+        .maximumSize(32)
+        .build();
+    
     public SecurityCommands(EdenCells plugin) {
         this.plugin = plugin;
     }
@@ -88,6 +104,8 @@ public final class SecurityCommands implements CommandExecutor, TabCompleter {
                 int limit = Integer.parseInt(args[3]);
                 plugin.getConfig().set("security.rate-limits." + action, limit);
                 plugin.saveConfig();
+                plugin.getConfigManager().refresh();
+                plugin.getSecurityManager().reloadRateLimits();
                 MessageUtils.sendSuccess(sender, "Set rate limit for '%s' to %d per minute", action, limit);
             } catch (NumberFormatException e) {
                 MessageUtils.sendError(sender, "Invalid number: " + args[3]);
@@ -111,6 +129,10 @@ public final class SecurityCommands implements CommandExecutor, TabCompleter {
             MessageUtils.sendInfo(sender, "• Log File: %s", logFile);
             MessageUtils.sendInfo(sender, "• Logged Actions: %s", 
                 actions.isEmpty() ? "All" : String.join(", ", actions));
+            
+            AuditWriter.Stats stats = plugin.getSecurityManager().getAuditStats();
+            MessageUtils.sendInfo(sender, "• Writer: %d accepted, %d written, %d dropped, %d queued, %d batches",
+                stats.accepted(), stats.written(), stats.dropped(), stats.queued(), stats.batches());
             return true;
         }
         
@@ -120,24 +142,136 @@ public final class SecurityCommands implements CommandExecutor, TabCompleter {
                 case "enable":
                     plugin.getConfig().set("security.audit.enabled", true);
                     plugin.saveConfig();
+                    plugin.getConfigManager().refresh();
+                    plugin.getSecurityManager().reloadAuditSettings();
                     MessageUtils.sendSuccess(sender, "Audit logging enabled");
                     return true;
                 case "disable":
                     plugin.getConfig().set("security.audit.enabled", false);
                     plugin.saveConfig();
+                    plugin.getConfigManager().refresh();
+                    plugin.getSecurityManager().reloadAuditSettings();
                     MessageUtils.sendSuccess(sender, "Audit logging disabled");
                     return true;
                 case "view":
-                    
-                    MessageUtils.sendInfo(sender, "Recent audit entries would be shown here");
-                    return true;
+                    return handleAuditSearch(sender, args);
+                case "page":
+                    return handleAuditPage(sender, args);
+            }
+        }
+        
+        MessageUtils.sendError(sender, "Usage: /esecurity audit [enable|disable|view <player|region|action> [since] [until]|page <n>]");
+        return true;
+    }
+    
+    private boolean handleAuditSearch(CommandSender sender, String[] args) {
+        if (args.length < 3) {
+            MessageUtils.sendError(sender, "Usage: /esecurity audit view <player|region|action> [since] [until]");
+            return true;
+        }
+        
+        String term = args[2];
+        Long since = args.length > 3 ? parseAuditTime(args[3], false) : Long.valueOf(0L);
+        Long until = args.length > 4 ? parseAuditTime(args[4], true) : Long.valueOf(Long.MAX_VALUE);
+        if (since == null || until == null) {
+            MessageUtils.sendError(sender, "Invalid time. Use yyyy-MM-dd or a relative age like 30m, 12h, 7d");
+            return true;
+        }
+        
+        File active = new File(plugin.getDataFolder(), plugin.getConfigManager().snapshot().auditLogFile());
+        String senderKey = resultKey(sender);
+        UUID playerId = sender instanceof Player player ? player.getUniqueId() : null;
+        MessageUtils.sendInfo(sender, "Searching audit log for '%s'...", term);
+        
+        
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                AuditSearch.Result result = AuditSearch.run(plugin.getSecurityManager().getAuditArchive(), active, term, since, until);
+                auditResults.put(senderKey, result.lines());
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    CommandSender target = playerId != null ? plugin.getServer().getPlayer(playerId) : sender;
+                    if (target == null) {
+                        return;
+                    }
+                    MessageUtils.sendInfo(target, "Found %d%s entries (%d segments scanned, %d skipped by index)",
+                        result.lines().size(), result.truncated() ? "+" : "", result.segmentsScanned(), result.segmentsSkipped());
+                    sendAuditPage(target, result.lines(), 1);
+                });
+            } catch (Exception e) {
+                plugin.getLogger().warning("Audit search failed: " + e.getMessage());
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    CommandSender target = playerId != null ? plugin.getServer().getPlayer(playerId) : sender;
+                    if (target != null) {
+                        MessageUtils.sendError(target, "Audit search failed: " + e.getMessage());
+                    }
+                });
             }
+        });
+        return true;
+    }
+    
+    private static String resultKey(CommandSender sender) {
+        return sender instanceof Player player ? player.getUniqueId().toString() : sender.getName();
+    }
+    
+    private boolean handleAuditPage(CommandSender sender, String[] args) {
+        List<String> lines = auditResults.getIfPresent(resultKey(sender));
+        if (lines == null) {
+            MessageUtils.sendError(sender, "No audit search results. Run /esecurity audit view first.");
+            return true;
         }
         
-        MessageUtils.sendError(sender, "Usage: /esecurity audit [enable|disable|view]");
+        try {
+            sendAuditPage(sender, lines, args.length > 2 ? Integer.parseInt(args[2]) : 1);
+        } catch (NumberFormatException e) {
+            MessageUtils.sendError(sender, "Invalid page number: " + args[2]);
+        }
         return true;
     }
     
+    private void sendAuditPage(CommandSender sender, List<String> lines, int page) {
+        int pages = Math.max(1, (lines.size() + AUDIT_PAGE_SIZE - 1) / AUDIT_PAGE_SIZE);
+        int current = Math.max(1, Math.min(page, pages));
+        
+        MessageUtils.sendInfo(sender, "=== Audit Results (page %d/%d) ===", current, pages);
+        int start = (current - 1) * AUDIT_PAGE_SIZE;
+        for (int i = start; i < Math.min(lines.size(), start + AUDIT_PAGE_SIZE); i++) {
+            MessageUtils.sendInfo(sender, "%s", lines.get(i));
+        }
+        if (current < pages) {
+            MessageUtils.sendInfo(sender, "Use /esecurity audit page %d for more", current + 1);
+        }
+    }
+    
+    private Long parseAuditTime(String value, boolean endOfDay) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.length() > 1 && Character.isDigit(trimmed.charAt(0))) {
+            char unit = trimmed.charAt(trimmed.length() - 1);
+            TimeUnit timeUnit = switch (unit) {
+                case 'm' -> TimeUnit.MINUTES;
+                case 'h' -> TimeUnit.HOURS;
+                case 'd' -> TimeUnit.DAYS;
+                default -> null;
+            };
+            if (timeUnit != null) {
+                try {
+                    long amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1));
+                    return System.currentTimeMillis() - timeUnit.toMillis(amount);
+                } catch (NumberFormatException ignored) {}
+            }
+        }
+        
+        try {
+            LocalDate date = LocalDate.parse(trimmed);
+            ZoneId zone = ZoneId.systemDefault();
+            return endOfDay
+                ? date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli() - 1
+                : date.atStartOfDay(zone).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+    
     private boolean handleClearRate(CommandSender sender, String[] args) {
         if (args.length < 2) {
             MessageUtils.sendError(sender, "Usage: /esecurity clearrate <player>");
@@ -279,7 +413,7 @@ public final class SecurityCommands implements CommandExecutor, TabCompleter {
         MessageUtils.send(sender, "<color:#9D4EDD>=== Security Commands ===</color>");
         MessageUtils.send(sender, "<color:#FFB3C6>/esecurity ratelimits</color> <color:#06FFA5>- View rate limits</color>");
         MessageUtils.send(sender, "<color:#FFB3C6>/esecurity ratelimits set <action> <limit></color> <color:#06FFA5>- Set rate limit</color>");
-        MessageUtils.send(sender, "<color:#FFB3C6>/esecurity audit [enable|disable|view]</color> <color:#06FFA5>- Manage audit logging</color>");
+        MessageUtils.send(sender, "<color:#FFB3C6>/esecurity audit [enable|disable|view <term> [since] [until]]</color> <color:#06FFA5>- Manage and search audit logging</color>");
         MessageUtils.send(sender, "<color:#FFB3C6>/esecurity clearrate <player></color> <color:#06FFA5>- Clear player's rate limits</color>");
         MessageUtils.send(sender, "<color:#FFB3C6>/esecurity validation</color> <color:#06FFA5>- View validation settings</color>");
         MessageUtils.send(sender, "<color:#FFB3C6>/esecurity sync</color> <color:#06FFA5>- Sync data</color>");
@@ -304,7 +438,7 @@ public final class SecurityCommands implements CommandExecutor, TabCompleter {
             if (subCommand.equals("ratelimits")) {
                 return Collections.singletonList("set");
             } else if (subCommand.equals("audit")) {
-                return Arrays.asList("enable", "disable", "view")
+                return Arrays.asList("enable", "disable", "view", "page")
                     .stream()
                     .filter(s -> s.startsWith(args[1].toLowerCase()))
                     .collect(Collectors.toList());
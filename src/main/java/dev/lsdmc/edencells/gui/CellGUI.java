@@ -19,7 +19,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 
 public final class CellGUI {
@@ -28,29 +27,10 @@ public final class CellGUI {
     private final CellManager cellManager;
     private final SecurityManager security;
     
-    
-    public static final Map<UUID, GUISession> openGUIs = new ConcurrentHashMap<>();
-    
-    
-    private static final long SESSION_TIMEOUT = 300000; 
-    
-    public record GUISession(
-        Inventory inventory,
-        String type,
-        Object data,
-        long openTime
-    ) {}
-    
     public CellGUI(EdenCells plugin, CellManager cellManager, SecurityManager security) {
         this.plugin = plugin;
         this.cellManager = cellManager;
         this.security = security;
-        
-        
-        if (plugin != null) {
-            plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, 
-                CellGUI::cleanupSessions, 200L, 1200L); 
-        }
     }
     
     
@@ -84,7 +64,7 @@ public final class CellGUI {
         Map<String, String> info = cellManager.getCellInfo(cell);
         String cellId = info.get("id");
         
-        Inventory gui = Bukkit.createInventory(null, 45, MessageUtils.fromMiniMessage(
+        Inventory gui = plugin.getGuiSessions().createInventory(45, MessageUtils.fromMiniMessage(
             "<color:#9D4EDD>Purchase Cell: <color:#FFB3C6>" + cellId + "</color></color>"));
         
         
@@ -141,8 +121,7 @@ public final class CellGUI {
         addCloseButton(gui, 40);
         fillBorders(gui, Material.GRAY_STAINED_GLASS_PANE);
         
-        player.openInventory(gui);
-        openGUIs.put(player.getUniqueId(), new GUISession(gui, "purchase", cell, System.currentTimeMillis()));
+        plugin.getGuiSessions().open(player, gui, "purchase", cell);
     }
     
     
@@ -152,7 +131,7 @@ public final class CellGUI {
         Map<String, String> info = cellManager.getCellInfo(cell);
         String cellId = info.get("id");
         
-        Inventory gui = Bukkit.createInventory(null, 54, MessageUtils.fromMiniMessage(
+        Inventory gui = plugin.getGuiSessions().createInventory(54, MessageUtils.fromMiniMessage(
             "<color:#9D4EDD>Manage Cell: <color:#FFB3C6>" + cellId + "</color></color>"));
         
         
@@ -225,8 +204,7 @@ public final class CellGUI {
         addCloseButton(gui, 49);
         fillBorders(gui, Material.BLUE_STAINED_GLASS_PANE);
         
-        player.openInventory(gui);
-        openGUIs.put(player.getUniqueId(), new GUISession(gui, "management", cell, System.currentTimeMillis()));
+        plugin.getGuiSessions().open(player, gui, "management", cell);
     }
     
     
@@ -236,7 +214,7 @@ public final class CellGUI {
         Map<String, String> info = cellManager.getCellInfo(cell);
         String cellId = info.get("id");
         
-        Inventory gui = Bukkit.createInventory(null, 36, MessageUtils.fromMiniMessage(
+        Inventory gui = plugin.getGuiSessions().createInventory(36, MessageUtils.fromMiniMessage(
             "<color:#9D4EDD>Cell Info: <color:#FFB3C6>" + cellId + "</color></color>"));
         
         
@@ -280,8 +258,7 @@ public final class CellGUI {
         addCloseButton(gui, 31);
         fillBorders(gui, Material.LIGHT_GRAY_STAINED_GLASS_PANE);
         
-        player.openInventory(gui);
-        openGUIs.put(player.getUniqueId(), new GUISession(gui, "viewer", cell, System.currentTimeMillis()));
+        plugin.getGuiSessions().open(player, gui, "viewer", cell);
     }
     
     
@@ -318,70 +295,27 @@ public final class CellGUI {
     private void addCloseButton(Inventory gui, int slot) {
         if (gui == null) return;
         
-        ItemStack closeButton = new ItemStack(Material.BARRIER);
-        ItemMeta closeMeta = closeButton.getItemMeta();
-        if (closeMeta != null) {
-            closeMeta.displayName(Component.text("Close", NamedTextColor.RED, TextDecoration.BOLD));
-            closeButton.setItemMeta(closeMeta);
-            gui.setItem(slot, closeButton);
-        }
+        gui.setItem(slot, plugin.getGuiAssets().closeButton());
     }
     
     
     private void fillBorders(Inventory gui, Material material) {
         if (gui == null) return;
         
-        ItemStack filler = new ItemStack(material);
-        ItemMeta fillerMeta = filler.getItemMeta();
-        if (fillerMeta != null) {
-            fillerMeta.displayName(Component.empty());
-            filler.setItemMeta(fillerMeta);
-            
-            int size = gui.getSize();
-            
-            
-            for (int i = 0; i < 9; i++) {
-                if (gui.getItem(i) == null) gui.setItem(i, filler);
-                if (gui.getItem(size - 9 + i) == null) gui.setItem(size - 9 + i, filler);
-            }
-            
-            
-            for (int i = 1; i < (size / 9) - 1; i++) {
-                if (gui.getItem(i * 9) == null) gui.setItem(i * 9, filler);
-                if (gui.getItem(i * 9 + 8) == null) gui.setItem(i * 9 + 8, filler);
-            }
+        ItemStack filler = plugin.getGuiAssets().border(material);
+        int size = gui.getSize();
+        
+        
+        for (int i = 0; i < 9; i++) {
+            if (gui.getItem(i) == null) gui.setItem(i, filler);
+            if (gui.getItem(size - 9 + i) == null) gui.setItem(size - 9 + i, filler);
+        }
+        
+        
+        for (int i = 1; i < (size / 9) - 1; i++) {
+            if (gui.getItem(i * 9) == null) gui.setItem(i * 9, filler);
+            if (gui.getItem(i * 9 + 8) == null) gui.setItem(i * 9 + 8, filler);
         }
-    }
-    
-    
-    public static GUISession getSession(Player player) {
-        if (player == null) return null;
-        return openGUIs.get(player.getUniqueId());
-    }
-    
-    
-    public static void closeSession(Player player) {
-        if (player == null) return;
-        openGUIs.remove(player.getUniqueId());
-    }
-    
-    
-    public static void cleanupSessions() {
-        long now = System.currentTimeMillis();
-        openGUIs.entrySet().removeIf(entry -> {
-            if (entry == null || entry.getValue() == null) {
-                return true;
-            }
-            
-            
-            if (now - entry.getValue().openTime() > SESSION_TIMEOUT) {
-                return true;
-            }
-            
-            
-            var player = Bukkit.getPlayer(entry.getKey());
-            return player == null || !player.isOnline();
-        });
     }
     
     
@@ -396,7 +330,7 @@ public final class CellGUI {
         Map<String, String> info = cellManager.getCellInfo(cell);
         String cellId = info.get("id");
         
-        Inventory gui = Bukkit.createInventory(null, 36, MessageUtils.fromMiniMessage(
+        Inventory gui = plugin.getGuiSessions().createInventory(36, MessageUtils.fromMiniMessage(
             "<color:#9D4EDD>Extend Rental: <color:#FFB3C6>" + cellId + "</color></color>"));
         
         
@@ -426,20 +360,12 @@ public final class CellGUI {
         }
         
         
-        ItemStack backButton = new ItemStack(Material.ARROW);
-        ItemMeta backMeta = backButton.getItemMeta();
-        if (backMeta != null) {
-            backMeta.displayName(Component.text("Back", NamedTextColor.YELLOW, TextDecoration.BOLD));
-            backMeta.lore(List.of(Component.text("Return to cell management", NamedTextColor.GRAY)));
-            backButton.setItemMeta(backMeta);
-            gui.setItem(27, backButton);
-        }
+        gui.setItem(27, plugin.getGuiAssets().backButton());
         
         addCloseButton(gui, 31);
         fillBorders(gui, Material.BLUE_STAINED_GLASS_PANE);
         
-        player.openInventory(gui);
-        openGUIs.put(player.getUniqueId(), new GUISession(gui, "period_selection", cell, System.currentTimeMillis()));
+        plugin.getGuiSessions().open(player, gui, "period_selection", cell);
     }
     
     
@@ -549,7 +475,7 @@ public final class CellGUI {
         Map<String, String> info = cellManager.getCellInfo(cell);
         String cellId = info.get("id");
         
-        Inventory gui = Bukkit.createInventory(null, 54, MessageUtils.fromMiniMessage(
+        Inventory gui = plugin.getGuiSessions().createInventory(54, MessageUtils.fromMiniMessage(
             "<color:#9D4EDD>Members: <color:#FFB3C6>" + cellId + "</color></color>"));
         
         
@@ -653,20 +579,12 @@ public final class CellGUI {
         }
         
         
-        ItemStack backButton = new ItemStack(Material.ARROW);
-        ItemMeta backMeta = backButton.getItemMeta();
-        if (backMeta != null) {
-            backMeta.displayName(Component.text("Back", NamedTextColor.YELLOW, TextDecoration.BOLD));
-            backMeta.lore(List.of(Component.text("Return to cell management", NamedTextColor.GRAY)));
-            backButton.setItemMeta(backMeta);
-            gui.setItem(46, backButton);
-        }
+        gui.setItem(46, plugin.getGuiAssets().backButton());
         
         addCloseButton(gui, 53);
         fillBorders(gui, Material.BLUE_STAINED_GLASS_PANE);
         
-        player.openInventory(gui);
-        openGUIs.put(player.getUniqueId(), new GUISession(gui, "members", cell, System.currentTimeMillis()));
+        plugin.getGuiSessions().open(player, gui, "members", cell);
     }
     
     
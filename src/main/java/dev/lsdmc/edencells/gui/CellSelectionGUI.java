@@ -10,7 +10,6 @@ import net.alex9849.arm.regions.RentRegion;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
@@ -44,7 +43,7 @@ public final class CellSelectionGUI {
         
         int size = Math.min(54, Math.max(27, ((cells.size() + 8) / 9) * 9));
         
-        Inventory gui = Bukkit.createInventory(null, size, MessageUtils.fromMiniMessage(
+        Inventory gui = plugin.getGuiSessions().createInventory(size, MessageUtils.fromMiniMessage(
             Constants.Messages.PRIMARY_COLOR + "Your Cells " + 
             Constants.Messages.SECONDARY_COLOR + "(" + cells.size() + " owned)"));
         
@@ -78,9 +77,7 @@ public final class CellSelectionGUI {
             }
         }
         
-        player.openInventory(gui);
-        CellGUI.openGUIs.put(player.getUniqueId(), 
-            new CellGUI.GUISession(gui, "selection", cells, System.currentTimeMillis()));
+        plugin.getGuiSessions().open(player, gui, "selection", cells);
     }
     
     
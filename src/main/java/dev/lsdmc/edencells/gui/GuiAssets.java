@@ -0,0 +1,71 @@
+package dev.lsdmc.edencells.gui;
+
+import dev.lsdmc.edencells.EdenCells;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+
+public final class GuiAssets {
+
+    private final EdenCells plugin;
+    private final Map<Material, ItemStack> borders = new ConcurrentHashMap<>();
+    private final Map<String, ItemStack> templates = new ConcurrentHashMap<>();
+    private volatile ItemStack closeButton;
+    private volatile ItemStack backButton;
+
+    public GuiAssets(EdenCells plugin) {
+        this.plugin = plugin;
+        rebuild();
+    }
+
+
+    public void rebuild() {
+        borders.clear();
+        templates.clear();
+        closeButton = named(Material.BARRIER, Component.text("Close", NamedTextColor.RED, TextDecoration.BOLD), null);
+        backButton = named(Material.ARROW, Component.text("Back", NamedTextColor.YELLOW, TextDecoration.BOLD),
+            List.of(Component.text("Return to cell management", NamedTextColor.GRAY)));
+        plugin.debug("Rebuilt GUI item templates");
+    }
+
+
+    public ItemStack border(Material material) {
+        return borders.computeIfAbsent(material, key -> named(key, Component.empty(), null));
+    }
+
+    public ItemStack closeButton() {
+        return closeButton;
+    }
+
+    public ItemStack backButton() {
+        return backButton;
+    }
+
+
+    public ItemStack template(String key, Supplier<ItemStack> factory) {
+        return templates.computeIfAbsent(key, k -> factory.get());
+    }
+
+
+    public static ItemStack named(Material material, Component name, List<Component> lore) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.displayName(name);
+            if (lore != null) {
+                meta.lore(lore);
+            }
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+}
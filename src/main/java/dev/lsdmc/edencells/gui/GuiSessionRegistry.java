@@ -0,0 +1,165 @@
+package dev.lsdmc.edencells.gui;
+
+import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.gui.holder.CellGuiHolder;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public final class GuiSessionRegistry {
+
+    private static final long SESSION_TIMEOUT = 300000;
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 64;
+
+    private final EdenCells plugin;
+    private final Map<InventoryHolder, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, InventoryHolder> byPlayer = new ConcurrentHashMap<>();
+    private final List<ArrayDeque<Timeout>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final BukkitTask expiryTask;
+    private long cursor;
+
+    public record Session(UUID playerId, Inventory inventory, String type, Object data, long openTime) {}
+
+    private static final class Timeout {
+        private final InventoryHolder holder;
+        private final Session session;
+        private long rounds;
+
+        private Timeout(InventoryHolder holder, Session session, long rounds) {
+            this.holder = holder;
+            this.session = session;
+            this.rounds = rounds;
+        }
+    }
+
+    public GuiSessionRegistry(EdenCells plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayDeque<>());
+        }
+        long period = TICK_MILLIS / 50L;
+        this.expiryTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::advance, period, period);
+    }
+
+
+    public Inventory createInventory(int size, Component title) {
+        CellGuiHolder holder = new CellGuiHolder("session");
+        Inventory inventory = Bukkit.createInventory(holder, size, title);
+        holder.setInventory(inventory);
+        return inventory;
+    }
+
+    public void open(Player player, Inventory inventory, String type, Object data) {
+        if (player.openInventory(inventory) == null) {
+            return;
+        }
+        InventoryHolder holder = inventory.getHolder();
+        if (holder == null) {
+            return;
+        }
+
+        Session session = new Session(player.getUniqueId(), inventory, type, data, System.currentTimeMillis());
+        InventoryHolder previous = byPlayer.put(player.getUniqueId(), holder);
+        if (previous != null && previous != holder) {
+            sessions.remove(previous);
+        }
+        sessions.put(holder, session);
+        schedule(holder, session);
+    }
+
+
+    public Session get(Inventory inventory) {
+        InventoryHolder holder = inventory != null ? inventory.getHolder() : null;
+        return holder != null ? sessions.get(holder) : null;
+    }
+
+    public void close(Inventory inventory) {
+        InventoryHolder holder = inventory != null ? inventory.getHolder() : null;
+        if (holder == null) {
+            return;
+        }
+        Session session = sessions.remove(holder);
+        if (session != null) {
+            byPlayer.remove(session.playerId(), holder);
+        }
+    }
+
+    public void removePlayer(UUID playerId) {
+        InventoryHolder holder = byPlayer.remove(playerId);
+        if (holder != null) {
+            sessions.remove(holder);
+        }
+    }
+
+
+    public void shutdown() {
+        expiryTask.cancel();
+        for (Session session : List.copyOf(sessions.values())) {
+            closeView(session);
+        }
+        sessions.clear();
+        byPlayer.clear();
+        synchronized (wheel) {
+            wheel.forEach(ArrayDeque::clear);
+        }
+    }
+
+
+    private void schedule(InventoryHolder holder, Session session) {
+        long ticks = Math.max(1L, (SESSION_TIMEOUT + TICK_MILLIS - 1) / TICK_MILLIS);
+        synchronized (wheel) {
+            int slot = (int) ((cursor + ticks) % WHEEL_SIZE);
+            wheel.get(slot).add(new Timeout(holder, session, ticks / WHEEL_SIZE));
+        }
+    }
+
+    private void advance() {
+        List<Session> expired = null;
+        synchronized (wheel) {
+            Iterator<Timeout> iterator = wheel.get((int) (cursor % WHEEL_SIZE)).iterator();
+            cursor++;
+            while (iterator.hasNext()) {
+                Timeout timeout = iterator.next();
+                if (sessions.get(timeout.holder) != timeout.session) {
+                    iterator.remove();
+                } else if (timeout.rounds > 0) {
+                    timeout.rounds--;
+                } else {
+                    iterator.remove();
+                    if (sessions.remove(timeout.holder, timeout.session)) {
+                        byPlayer.remove(timeout.session.playerId(), timeout.holder);
+                        if (expired == null) {
+                            expired = new ArrayList<>();
+                        }
+                        expired.add(timeout.session);
+                    }
+                }
+            }
+        }
+
+        if (expired != null) {
+            expired.forEach(this::closeView);
+            plugin.debug("Expired " + expired.size() + " idle GUI sessions");
+        }
+    }
+
+    private void closeView(Session session) {
+        Player player = Bukkit.getPlayer(session.playerId());
+        if (player != null && player.getOpenInventory().getTopInventory().equals(session.inventory())) {
+            player.closeInventory();
+        }
+    }
+}
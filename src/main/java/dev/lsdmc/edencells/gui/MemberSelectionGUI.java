@@ -354,6 +354,7 @@ public class MemberSelectionGUI implements Listener {
       player.sendMessage(MessageUtils.warning("$" + String.format("%.2f", new Object[] { Double.valueOf(cost) }) + " withdrawn."));
     } 
     region.getRegion().addMember(targetUuid);
+    this.plugin.getCellManager().refreshRegionState(region);
     try {
       region.queueSave();
     } catch (Exception e) {
@@ -396,6 +397,7 @@ public class MemberSelectionGUI implements Listener {
       player.sendMessage(MessageUtils.warning("$" + String.format("%.2f", new Object[] { Double.valueOf(cost) }) + " withdrawn."));
     } 
     region.getRegion().removeMember(memberUuid);
+    this.plugin.getCellManager().refreshRegionState(region);
     try {
       region.queueSave();
     } catch (Exception e) {
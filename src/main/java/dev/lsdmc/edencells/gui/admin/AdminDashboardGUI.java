@@ -1,6 +1,7 @@
 package dev.lsdmc.edencells.gui.admin;
 
 import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.gui.GuiAssets;
 import dev.lsdmc.edencells.utils.MessageUtils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -27,16 +28,20 @@ public final class AdminDashboardGUI {
                 MessageUtils.fromMiniMessage("<color:#9D4EDD>Admin Dashboard</color>"));
 
         
-        inv.setItem(11, button(Material.PLAYER_HEAD, Component.text("Players", NamedTextColor.GOLD),
-                List.of(Component.text("Manage players & cells", NamedTextColor.YELLOW))));
+        GuiAssets assets = plugin.getGuiAssets();
+        inv.setItem(11, assets.template("dashboard.players", () -> button(Material.PLAYER_HEAD,
+                Component.text("Players", NamedTextColor.GOLD),
+                List.of(Component.text("Manage players & cells", NamedTextColor.YELLOW)))));
 
         
-        inv.setItem(13, button(Material.CHEST, Component.text("Groups", NamedTextColor.GOLD),
-                List.of(Component.text("Manage cell groups", NamedTextColor.YELLOW))));
+        inv.setItem(13, assets.template("dashboard.groups", () -> button(Material.CHEST,
+                Component.text("Groups", NamedTextColor.GOLD),
+                List.of(Component.text("Manage cell groups", NamedTextColor.YELLOW)))));
 
         
-        inv.setItem(15, button(Material.COMPASS, Component.text("System", NamedTextColor.GOLD),
-                List.of(Component.text("Sync & diagnostics", NamedTextColor.YELLOW))));
+        inv.setItem(15, assets.template("dashboard.system", () -> button(Material.COMPASS,
+                Component.text("System", NamedTextColor.GOLD),
+                List.of(Component.text("Sync & diagnostics", NamedTextColor.YELLOW)))));
 
         player.openInventory(inv);
     }
@@ -1,6 +1,7 @@
 package dev.lsdmc.edencells.gui.admin;
 
 import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.gui.GuiAssets;
 import dev.lsdmc.edencells.models.CellGroup;
 import dev.lsdmc.edencells.models.CellGroupManager;
 import dev.lsdmc.edencells.utils.MessageUtils;
@@ -55,12 +56,13 @@ public final class AdminGroupsGUI {
                 MessageUtils.fromMiniMessage("<color:#9D4EDD>Cell Groups</color>"));
 
         
-        inv.setItem(46, tool(Material.BARRIER, Component.text("Back", NamedTextColor.RED), "back_dashboard", null, null));
+        GuiAssets assets = plugin.getGuiAssets();
+        inv.setItem(46, assets.template("groups.back", () -> tool(Material.BARRIER, Component.text("Back", NamedTextColor.RED), "back_dashboard", null, null)));
 
         
-        inv.setItem(1, tool(Material.ANVIL, Component.text("Create Group", NamedTextColor.GOLD), "create_group", null, null));
-        inv.setItem(2, tool(Material.PAPER, Component.text("Reload Groups", NamedTextColor.AQUA), "reload_groups", null, null));
-        inv.setItem(3, tool(Material.BOOK, Component.text("Save Groups", NamedTextColor.GREEN), "save_groups", null, null));
+        inv.setItem(1, assets.template("groups.create", () -> tool(Material.ANVIL, Component.text("Create Group", NamedTextColor.GOLD), "create_group", null, null)));
+        inv.setItem(2, assets.template("groups.reload", () -> tool(Material.PAPER, Component.text("Reload Groups", NamedTextColor.AQUA), "reload_groups", null, null)));
+        inv.setItem(3, assets.template("groups.save", () -> tool(Material.BOOK, Component.text("Save Groups", NamedTextColor.GREEN), "save_groups", null, null)));
 
         
         int global = groups.getGlobalCellLimit();
@@ -1,6 +1,7 @@
 package dev.lsdmc.edencells.gui.admin;
 
 import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.gui.GuiAssets;
 import dev.lsdmc.edencells.managers.CellManager;
 import dev.lsdmc.edencells.utils.MessageUtils;
 import net.alex9849.arm.regions.Region;
@@ -56,11 +57,9 @@ public final class AdminPlayersGUI {
                 MessageUtils.fromMiniMessage("<color:#9D4EDD>Players</color>"));
 
         
-        ItemStack back = new ItemStack(Material.BARRIER);
-        ItemMeta bm = back.getItemMeta();
-        bm.displayName(Component.text("Back", NamedTextColor.RED));
-        back.setItemMeta(bm);
-        inv.setItem(46, back);
+        GuiAssets assets = plugin.getGuiAssets();
+        inv.setItem(46, assets.template("players.back",
+                () -> GuiAssets.named(Material.BARRIER, Component.text("Back", NamedTextColor.RED), null)));
 
         int start = page * perPage;
         int end = Math.min(start + perPage, players.size());
@@ -71,9 +70,11 @@ public final class AdminPlayersGUI {
         }
 
         
-        inv.setItem(45, navItem("Prev", page > 0));
+        boolean hasPrev = page > 0;
+        boolean hasNext = page < totalPages - 1;
+        inv.setItem(45, assets.template("players.prev." + hasPrev, () -> navItem("Prev", hasPrev)));
         inv.setItem(49, pageInfo(page + 1, totalPages));
-        inv.setItem(53, navItem("Next", page < totalPages - 1));
+        inv.setItem(53, assets.template("players.next." + hasNext, () -> navItem("Next", hasNext)));
 
         admin.openInventory(inv);
     }
@@ -176,6 +176,7 @@ public final class AdminGUIListener implements Listener {
                         org.bukkit.OfflinePlayer offline = plugin.getServer().getOfflinePlayer(target.getUniqueId());
                         region.setOwner(offline);
                         region.queueSave();
+                        plugin.getCellManager().refreshRegionState(region);
                         plugin.getDoorManager().syncDoorOwnershipForRegion(regionId);
                         MessageUtils.sendSuccess(player, "Owner set to " + target.getName());
                     } catch (Exception ex) {
@@ -73,6 +73,7 @@ public final class AdminPlayerPrompt implements Listener {
                         org.bukkit.OfflinePlayer offline = plugin.getServer().getOfflinePlayer(newOwner);
                         region.setOwner(offline);
                         region.queueSave();
+                        cm.refreshRegionState(region);
                         plugin.getDoorManager().syncDoorOwnershipForRegion(region.getRegion().getId());
                         MessageUtils.sendSuccess(admin, "Owner set to " + target.getName());
                     } catch (Exception ex) {
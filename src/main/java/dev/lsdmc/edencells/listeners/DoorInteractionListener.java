@@ -1,18 +1,26 @@
 package dev.lsdmc.edencells.listeners;
 
 import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.managers.DoorIndex;
 import dev.lsdmc.edencells.managers.DoorManager;
 import dev.lsdmc.edencells.security.SecurityManager;
 import dev.lsdmc.edencells.utils.Constants;
 import dev.lsdmc.edencells.utils.MessageUtils;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
+import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.EquipmentSlot;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public final class DoorInteractionListener implements Listener {
@@ -21,6 +29,14 @@ public final class DoorInteractionListener implements Listener {
     private final DoorManager doorManager;
     private final SecurityManager security;
     
+    
+    private final Map<UUID, LastInteract> lastInteracts = new ConcurrentHashMap<>();
+    
+    private static final class LastInteract {
+        private int tick = Integer.MIN_VALUE;
+        private long position;
+    }
+    
     public DoorInteractionListener(EdenCells plugin, DoorManager doorManager, SecurityManager security) {
         this.plugin = plugin;
         this.doorManager = doorManager;
@@ -40,19 +56,41 @@ public final class DoorInteractionListener implements Listener {
         }
         
         
+        if (!doorManager.mayHaveLinkedDoor(block)) {
+            return;
+        }
+        
+        
         if (!doorManager.isValidDoor(block.getType())) {
             return;
         }
         
+        if (event.getHand() != EquipmentSlot.HAND) {
+            event.setUseInteractedBlock(Event.Result.DENY);
+            return;
+        }
+        
         var player = event.getPlayer();
-        var location = block.getLocation();
         
         
-        String linkedRegion = doorManager.getLinkedRegion(location);
+        String linkedRegion = doorManager.getLinkedRegion(block);
         if (linkedRegion == null) {
             return; 
         }
         
+        
+        int tick = plugin.getServer().getCurrentTick();
+        long position = DoorIndex.pack(block.getX(), block.getY(), block.getZ());
+        LastInteract last = lastInteracts.computeIfAbsent(player.getUniqueId(), id -> new LastInteract());
+        if (last.tick == tick && last.position == position) {
+            event.setCancelled(true);
+            return;
+        }
+        last.tick = tick;
+        last.position = position;
+        
+        var location = block.getLocation();
+        
         
         if (security.isRateLimited(player, "door_interact")) {
             MessageUtils.sendError(player, "You're interacting with doors too quickly!");
@@ -61,14 +99,14 @@ public final class DoorInteractionListener implements Listener {
         }
         
         
-        if (!doorManager.canAccessDoor(player, location)) {
+        if (!doorManager.canAccessLinkedRegion(player, linkedRegion)) {
             event.setCancelled(true);
             
             
             MessageUtils.sendError(player, "You don't have access to this cell!");
             
             
-            if (plugin.getConfigManager().areDoorSoundsEnabled()) {
+            if (plugin.getConfigManager().snapshot().doorSoundsEnabled()) {
                 player.playSound(location, Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 0.5f);
             }
             
@@ -95,6 +133,11 @@ public final class DoorInteractionListener implements Listener {
         plugin.debug("Player " + player.getName() + " accessed door linked to region " + linkedRegion);
     }
     
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        lastInteracts.remove(event.getPlayer().getUniqueId());
+    }
+    
     @EventHandler(priority = EventPriority.HIGH)
     public void onDoorBreak(BlockBreakEvent event) {
         Block block = event.getBlock();
@@ -107,7 +150,7 @@ public final class DoorInteractionListener implements Listener {
         var player = event.getPlayer();
         
         
-        String linkedRegion = doorManager.getLinkedRegion(block.getLocation());
+        String linkedRegion = doorManager.getLinkedRegion(block);
         if (linkedRegion == null) {
             return; 
         }
@@ -2,6 +2,7 @@ package dev.lsdmc.edencells.listeners;
 
 import dev.lsdmc.edencells.EdenCells;
 import dev.lsdmc.edencells.gui.CellGUI;
+import dev.lsdmc.edencells.gui.GuiSessionRegistry;
 import dev.lsdmc.edencells.managers.CellManager;
 import dev.lsdmc.edencells.security.SecurityManager;
 import dev.lsdmc.edencells.utils.Constants;
@@ -16,6 +17,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
@@ -39,7 +41,7 @@ public final class GUIListener implements Listener {
             return;
         }
         
-        var session = CellGUI.getSession(player);
+        var session = plugin.getGuiSessions().get(event.getInventory());
         if (session == null) {
             return;
         }
@@ -76,12 +78,15 @@ public final class GUIListener implements Listener {
     
     @EventHandler
     public void onInventoryClose(InventoryCloseEvent event) {
-        if (event.getPlayer() instanceof Player player) {
-            CellGUI.closeSession(player);
-        }
+        plugin.getGuiSessions().close(event.getInventory());
+    }
+    
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getGuiSessions().removePlayer(event.getPlayer().getUniqueId());
     }
     
-    private void handleCellSelectionClick(Player player, int slot, CellGUI.GUISession session) {
+    private void handleCellSelectionClick(Player player, int slot, GuiSessionRegistry.Session session) {
         
         if (session.data() instanceof java.util.List<?> list && !list.isEmpty()) {
             @SuppressWarnings("unchecked")
@@ -106,7 +111,7 @@ public final class GUIListener implements Listener {
         }
     }
     
-    private void handlePurchaseClick(Player player, int slot, CellGUI.GUISession session) {
+    private void handlePurchaseClick(Player player, int slot, GuiSessionRegistry.Session session) {
         if (!(session.data() instanceof Region cell)) return;
         
         if (slot == 22) { 
@@ -135,7 +140,7 @@ public final class GUIListener implements Listener {
         }
     }
     
-    private void handleManagementClick(Player player, int slot, CellGUI.GUISession session) {
+    private void handleManagementClick(Player player, int slot, GuiSessionRegistry.Session session) {
         if (!(session.data() instanceof Region cell)) return;
         
         switch (slot) {
@@ -175,14 +180,14 @@ public final class GUIListener implements Listener {
         }
     }
     
-    private void handleViewerClick(Player player, int slot, CellGUI.GUISession session) {
+    private void handleViewerClick(Player player, int slot, GuiSessionRegistry.Session session) {
         if (slot == 31) { 
             player.closeInventory();
         }
         
     }
     
-    private void handlePeriodSelectionClick(Player player, int slot, CellGUI.GUISession session) {
+    private void handlePeriodSelectionClick(Player player, int slot, GuiSessionRegistry.Session session) {
         if (!(session.data() instanceof Region cell)) return;
         
         
@@ -225,7 +230,7 @@ public final class GUIListener implements Listener {
         }
     }
     
-    private void handleMembersClick(Player player, int slot, CellGUI.GUISession session) {
+    private void handleMembersClick(Player player, int slot, GuiSessionRegistry.Session session) {
         if (!(session.data() instanceof Region cell)) return;
         
         
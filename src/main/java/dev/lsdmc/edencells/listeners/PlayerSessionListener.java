@@ -0,0 +1,43 @@
+package dev.lsdmc.edencells.listeners;
+
+import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.utils.LuckPermsAdapter;
+import dev.lsdmc.edencells.utils.PermissionCache;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.UUID;
+
+
+public final class PlayerSessionListener implements Listener {
+
+    private final EdenCells plugin;
+
+    public PlayerSessionListener(EdenCells plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        PermissionCache permissionCache = plugin.getPermissionCache();
+        if (permissionCache != null) {
+            permissionCache.load(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        PermissionCache permissionCache = plugin.getPermissionCache();
+        if (permissionCache != null) {
+            permissionCache.unload(playerId);
+        }
+        LuckPermsAdapter luckPermsAdapter = plugin.getLuckPermsAdapter();
+        if (luckPermsAdapter != null) {
+            luckPermsAdapter.unload(playerId);
+        }
+    }
+}
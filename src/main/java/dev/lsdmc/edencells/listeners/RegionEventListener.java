@@ -0,0 +1,65 @@
+package dev.lsdmc.edencells.listeners;
+
+import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.managers.RegionIndex;
+import net.alex9849.arm.events.AddRegionEvent;
+import net.alex9849.arm.events.RemoveRegionEvent;
+import net.alex9849.arm.events.UnsellRegionEvent;
+import net.alex9849.arm.events.UpdateRegionEvent;
+import net.alex9849.arm.regions.Region;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+
+public final class RegionEventListener implements Listener {
+
+    private final EdenCells plugin;
+
+    public RegionEventListener(EdenCells plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegionAdd(AddRegionEvent event) {
+        Region region = event.getRegion();
+        RegionIndex regionIndex = plugin.getRegionIndex();
+        if (region == null || regionIndex == null) {
+            return;
+        }
+        regionIndex.track(region);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegionRemove(RemoveRegionEvent event) {
+        Region region = event.getRegion();
+        RegionIndex regionIndex = plugin.getRegionIndex();
+        if (region == null || regionIndex == null) {
+            return;
+        }
+        regionIndex.forget(region);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegionUnsell(UnsellRegionEvent event) {
+        Region region = event.getRegion();
+        if (region == null) {
+            return;
+        }
+        if (plugin.getOwnerIndex() != null) {
+            plugin.getOwnerIndex().release(region);
+        }
+        if (plugin.getAccessIndex() != null) {
+            plugin.getAccessIndex().remove(region);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegionUpdate(UpdateRegionEvent event) {
+        Region region = event.getRegion();
+        if (region == null) {
+            return;
+        }
+        plugin.getCellManager().refreshRegionState(region);
+    }
+}
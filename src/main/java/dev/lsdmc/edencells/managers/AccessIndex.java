@@ -0,0 +1,122 @@
+package dev.lsdmc.edencells.managers;
+
+import dev.lsdmc.edencells.EdenCells;
+import net.alex9849.arm.regions.Region;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public final class AccessIndex {
+
+    private final EdenCells plugin;
+
+
+    private volatile Map<UUID, Set<String>> accessible;
+    private Map<String, Set<UUID>> allowedByRegion = new HashMap<>();
+
+    public AccessIndex(EdenCells plugin) {
+        this.plugin = plugin;
+    }
+
+
+    public synchronized void rebuild(Collection<RegionIndex.RegionState> states) {
+        Map<String, Set<UUID>> newAllowed = new HashMap<>(states.size() * 2);
+        Map<UUID, Set<String>> building = new HashMap<>();
+        for (RegionIndex.RegionState state : states) {
+            if (state.access().isEmpty()) {
+                continue;
+            }
+            newAllowed.put(state.key(), state.access());
+            for (UUID playerId : state.access()) {
+                building.computeIfAbsent(playerId, p -> new HashSet<>()).add(state.key());
+            }
+        }
+
+        Map<UUID, Set<String>> result = new ConcurrentHashMap<>(building.size() * 2);
+        building.forEach((playerId, keys) -> result.put(playerId, Set.copyOf(keys)));
+        this.allowedByRegion = newAllowed;
+        this.accessible = result;
+    }
+
+
+    public synchronized void update(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+
+        String key = RegionIndex.normalize(region.getRegion().getId());
+        Set<UUID> allowed;
+        try {
+            allowed = allowedOf(region);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error reading access for region " + key + ": " + e.getMessage());
+            return;
+        }
+        apply(key, allowed);
+    }
+
+
+    public synchronized void remove(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+        apply(RegionIndex.normalize(region.getRegion().getId()), Set.of());
+    }
+
+
+    public Set<String> getAccessible(UUID playerId) {
+        Map<UUID, Set<String>> current = accessible;
+        if (current == null || playerId == null) {
+            return null;
+        }
+        return current.getOrDefault(playerId, Set.of());
+    }
+
+    static Set<UUID> allowedOf(Region region) {
+        Set<UUID> allowed = new HashSet<>(region.getRegion().getOwners());
+        allowed.addAll(region.getRegion().getMembers());
+        return Set.copyOf(allowed);
+    }
+
+    private void apply(String key, Set<UUID> allowed) {
+        Set<UUID> previous = allowed.isEmpty() ? allowedByRegion.remove(key) : allowedByRegion.put(key, allowed);
+        Map<UUID, Set<String>> current = accessible;
+        if (current == null) {
+            return;
+        }
+
+        if (previous != null) {
+            for (UUID playerId : previous) {
+                if (!allowed.contains(playerId)) {
+                    current.computeIfPresent(playerId, (id, keys) -> without(keys, key));
+                }
+            }
+        }
+        for (UUID playerId : allowed) {
+            if (previous == null || !previous.contains(playerId)) {
+                current.merge(playerId, Set.of(key), AccessIndex::with);
+            }
+        }
+    }
+
+    private static Set<String> with(Set<String> keys, Set<String> added) {
+        Set<String> next = new HashSet<>(keys);
+        next.addAll(added);
+        return Set.copyOf(next);
+    }
+
+    private static Set<String> without(Set<String> keys, String key) {
+        if (!keys.contains(key)) {
+            return keys;
+        }
+        Set<String> next = new HashSet<>(keys);
+        next.remove(key);
+        return next.isEmpty() ? null : Set.copyOf(next);
+    }
+}
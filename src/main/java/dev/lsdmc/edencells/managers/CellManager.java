@@ -59,6 +59,10 @@ public final class CellManager {
         
         try {
             String trimmedId = cellId.trim();
+            if (plugin.getRegionIndex() != null) {
+                return plugin.getRegionIndex().find(trimmedId, world);
+            }
+            
             for (Region region : arm.getRegionManager()) {
                 if (region != null && 
                     region.getRegion() != null && 
@@ -291,6 +295,7 @@ public final class CellManager {
             }
             
             
+            refreshRegionState(cell);
             security.auditLog(player, "ADD_MEMBER", cell.getRegion().getId(), 
                 "Added " + targetName + " as member");
             
@@ -386,6 +391,7 @@ public final class CellManager {
             }
             
             
+            refreshRegionState(cell);
             security.auditLog(player, "REMOVE_MEMBER", cell.getRegion().getId(), 
                 "Removed " + targetName + " as member");
             
@@ -414,6 +420,10 @@ public final class CellManager {
         }
         
         try {
+            if (plugin.getVacancyIndex() != null) {
+                return plugin.getVacancyIndex().getAvailable(world);
+            }
+            
             List<Region> availableCells = new ArrayList<>();
             for (Region region : arm.getRegionManager()) {
                 if (region != null && 
@@ -431,6 +441,26 @@ public final class CellManager {
     }
     
     
+    public void refreshRegionState(Region cell) {
+        if (cell == null) {
+            return;
+        }
+        
+        if (plugin.getRegionIndex() != null) {
+            plugin.getRegionIndex().touch(cell);
+        }
+        if (plugin.getVacancyIndex() != null) {
+            plugin.getVacancyIndex().update(cell);
+        }
+        if (plugin.getOwnerIndex() != null) {
+            plugin.getOwnerIndex().update(cell);
+        }
+        if (plugin.getAccessIndex() != null) {
+            plugin.getAccessIndex().update(cell);
+        }
+    }
+    
+    
     public Map<String, String> getCellInfo(Region cell) {
         Map<String, String> info = new HashMap<>();
         
@@ -552,6 +582,7 @@ public final class CellManager {
             }
             
             if (success) {
+                refreshRegionState(cell);
                 
                 plugin.getDoorManager().syncDoorOwnershipForRegion(cell.getRegion().getId());
                 
@@ -648,7 +679,7 @@ public final class CellManager {
                 MessageUtils.sendSuccess(player, "Successfully %s cell '%s'!", 
                     action, cell.getRegion().getId());
                     
-                
+                refreshRegionState(cell);
                 plugin.getDoorManager().syncDoorOwnershipForRegion(cell.getRegion().getId());
                 
                 
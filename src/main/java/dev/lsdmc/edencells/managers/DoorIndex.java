@@ -0,0 +1,397 @@
+package dev.lsdmc.edencells.managers;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public final class DoorIndex {
+
+    private static final int NO_REGION = -1;
+
+    private final Map<String, WorldDoors> worlds = new ConcurrentHashMap<>();
+
+
+    private final Map<String, Integer> regionHandles = new HashMap<>();
+    private volatile String[] regionNames = new String[16];
+    private RegionDoors[] regionDoors = new RegionDoors[16];
+    private int[] freeHandles = new int[8];
+    private int freeCount = 0;
+    private int nextHandle = 0;
+
+    public record LinkedDoor(String world, int x, int y, int z) {
+
+        @Override
+        public String toString() {
+            return world + ":" + x + ":" + y + ":" + z;
+        }
+    }
+
+    @FunctionalInterface
+    public interface DoorVisitor {
+        void accept(String world, int x, int y, int z, String regionId);
+    }
+
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+
+    public static long packChunk(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+
+    public String get(String world, int x, int y, int z) {
+        WorldDoors doors = worlds.get(world);
+        if (doors == null) {
+            return null;
+        }
+        synchronized (doors) {
+            int handle = doors.links.get(pack(x, y, z));
+            return handle == NO_REGION ? null : regionNames[handle];
+        }
+    }
+
+
+    public boolean hasDoorsInChunk(String world, int chunkX, int chunkZ) {
+        WorldDoors doors = worlds.get(world);
+        return doors != null && doors.chunks.get(packChunk(chunkX, chunkZ)) != NO_REGION;
+    }
+
+
+    public String put(String world, int x, int y, int z, String regionId) {
+        WorldDoors doors = worlds.computeIfAbsent(world, WorldDoors::new);
+        long packed = pack(x, y, z);
+        synchronized (doors) {
+            synchronized (regionHandles) {
+                int handle = intern(regionId);
+                int previous = doors.links.put(packed, handle);
+                if (previous == NO_REGION) {
+                    long chunk = packChunk(x >> 4, z >> 4);
+                    int count = doors.chunks.get(chunk);
+                    doors.chunks.put(chunk, count == NO_REGION ? 1 : count + 1);
+                    regionDoors[handle].add(doors.name, packed);
+                    return null;
+                }
+                String previousRegion = regionNames[previous];
+                if (previous != handle) {
+                    unindexDoor(previous, doors.name, packed);
+                    regionDoors[handle].add(doors.name, packed);
+                }
+                return previousRegion;
+            }
+        }
+    }
+
+
+    public String remove(String world, int x, int y, int z) {
+        WorldDoors doors = worlds.get(world);
+        if (doors == null) {
+            return null;
+        }
+        long packed = pack(x, y, z);
+        synchronized (doors) {
+            synchronized (regionHandles) {
+                int previous = doors.links.remove(packed);
+                if (previous == NO_REGION) {
+                    return null;
+                }
+                long chunk = packChunk(x >> 4, z >> 4);
+                int count = doors.chunks.get(chunk);
+                if (count <= 1) {
+                    doors.chunks.remove(chunk);
+                } else {
+                    doors.chunks.put(chunk, count - 1);
+                }
+                String previousRegion = regionNames[previous];
+                unindexDoor(previous, doors.name, packed);
+                return previousRegion;
+            }
+        }
+    }
+
+    public List<LinkedDoor> getDoors(String regionId) {
+        synchronized (regionHandles) {
+            Integer handle = regionHandles.get(regionId);
+            if (handle == null) {
+                return List.of();
+            }
+            RegionDoors doors = regionDoors[handle];
+            List<LinkedDoor> result = new ArrayList<>(doors.size);
+            for (int i = 0; i < doors.size; i++) {
+                long packed = doors.positions[i];
+                result.add(new LinkedDoor(doors.worlds[i], unpackX(packed), unpackY(packed), unpackZ(packed)));
+            }
+            return result;
+        }
+    }
+
+
+    public List<String> getLinkedRegionIds() {
+        synchronized (regionHandles) {
+            return new ArrayList<>(regionHandles.keySet());
+        }
+    }
+
+    public boolean hasWorld(String world) {
+        WorldDoors doors = worlds.get(world);
+        return doors != null && doors.links.size() > 0;
+    }
+
+    public int size() {
+        int total = 0;
+        for (WorldDoors doors : worlds.values()) {
+            total += doors.links.size();
+        }
+        return total;
+    }
+
+    public void clear() {
+        worlds.clear();
+        synchronized (regionHandles) {
+            regionHandles.clear();
+            regionNames = new String[16];
+            regionDoors = new RegionDoors[16];
+            freeCount = 0;
+            nextHandle = 0;
+        }
+    }
+
+
+    public void forEach(DoorVisitor visitor) {
+        for (WorldDoors doors : worlds.values()) {
+            long[] positions;
+            String[] regionIds;
+            synchronized (doors) {
+                positions = new long[doors.links.size()];
+                regionIds = new String[positions.length];
+                int[] next = {0};
+                doors.links.forEach((packed, handle) -> {
+                    positions[next[0]] = packed;
+                    regionIds[next[0]++] = regionNames[handle];
+                });
+            }
+            for (int i = 0; i < positions.length; i++) {
+                if (regionIds[i] != null) {
+                    long packed = positions[i];
+                    visitor.accept(doors.name, unpackX(packed), unpackY(packed), unpackZ(packed), regionIds[i]);
+                }
+            }
+        }
+    }
+
+    private void unindexDoor(int handle, String world, long packed) {
+        RegionDoors doors = regionDoors[handle];
+        if (doors != null && doors.remove(world, packed) && doors.size == 0) {
+            release(handle);
+        }
+    }
+
+    private int intern(String regionId) {
+        Integer existing = regionHandles.get(regionId);
+        if (existing != null) {
+            return existing;
+        }
+        int handle = freeCount > 0 ? freeHandles[--freeCount] : nextHandle++;
+        String[] names = regionNames;
+        if (handle >= names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+            regionDoors = Arrays.copyOf(regionDoors, names.length);
+        }
+        names[handle] = regionId;
+        regionDoors[handle] = new RegionDoors();
+        regionNames = names;
+        regionHandles.put(regionId, handle);
+        return handle;
+    }
+
+    private void release(int handle) {
+        regionHandles.remove(regionNames[handle]);
+        regionNames[handle] = null;
+        regionDoors[handle] = null;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+        }
+        freeHandles[freeCount++] = handle;
+    }
+
+    @FunctionalInterface
+    private interface EntryVisitor {
+        void accept(long packed, int handle);
+    }
+
+
+    private static final class WorldDoors {
+
+        private final String name;
+        private final LongIntMap links = new LongIntMap();
+        private final LongIntMap chunks = new LongIntMap();
+
+        private WorldDoors(String name) {
+            this.name = name;
+        }
+    }
+
+
+    private static final class RegionDoors {
+
+        private String[] worlds = new String[2];
+        private long[] positions = new long[2];
+        private int size = 0;
+
+        void add(String world, long packed) {
+            if (size == positions.length) {
+                worlds = Arrays.copyOf(worlds, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            worlds[size] = world;
+            positions[size] = packed;
+            size++;
+        }
+
+        boolean remove(String world, long packed) {
+            for (int i = 0; i < size; i++) {
+                if (positions[i] == packed && worlds[i].equals(world)) {
+                    size--;
+                    worlds[i] = worlds[size];
+                    positions[i] = positions[size];
+                    worlds[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+
+    private static final class LongIntMap {
+
+        private long[] keys = new long[16];
+        private int[] values = filled(16);
+        private int size = 0;
+
+        synchronized int get(long key) {
+            int mask = values.length - 1;
+            for (int i = mix(key) & mask; values[i] != NO_REGION; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return NO_REGION;
+        }
+
+        synchronized int put(long key, int value) {
+            if ((size + 1) * 2 > values.length) {
+                resize(values.length * 2);
+            }
+            int mask = values.length - 1;
+            int i = mix(key) & mask;
+            while (values[i] != NO_REGION) {
+                if (keys[i] == key) {
+                    int previous = values[i];
+                    values[i] = value;
+                    return previous;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+            return NO_REGION;
+        }
+
+        synchronized int remove(long key) {
+            int mask = values.length - 1;
+            int hole = mix(key) & mask;
+            while (values[hole] != NO_REGION && keys[hole] != key) {
+                hole = (hole + 1) & mask;
+            }
+            if (values[hole] == NO_REGION) {
+                return NO_REGION;
+            }
+
+            int previous = values[hole];
+            int j = hole;
+            while (true) {
+                j = (j + 1) & mask;
+                if (values[j] == NO_REGION) {
+                    break;
+                }
+                int home = mix(keys[j]) & mask;
+                boolean movable = j > hole ? (home <= hole || home > j) : (home <= hole && home > j);
+                if (movable) {
+                    keys[hole] = keys[j];
+                    values[hole] = values[j];
+                    hole = j;
+                }
+            }
+            values[hole] = NO_REGION;
+            size--;
+            return previous;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        void forEach(EntryVisitor visitor) {
+            long[] snapshotKeys;
+            int[] snapshotValues;
+            synchronized (this) {
+                snapshotKeys = keys.clone();
+                snapshotValues = values.clone();
+            }
+            for (int i = 0; i < snapshotValues.length; i++) {
+                if (snapshotValues[i] != NO_REGION) {
+                    visitor.accept(snapshotKeys[i], snapshotValues[i]);
+                }
+            }
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = filled(capacity);
+            int mask = capacity - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != NO_REGION) {
+                    int j = mix(oldKeys[i]) & mask;
+                    while (values[j] != NO_REGION) {
+                        j = (j + 1) & mask;
+                    }
+                    keys[j] = oldKeys[i];
+                    values[j] = oldValues[i];
+                }
+            }
+        }
+
+        private static int[] filled(int capacity) {
+            int[] array = new int[capacity];
+            Arrays.fill(array, NO_REGION);
+            return array;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
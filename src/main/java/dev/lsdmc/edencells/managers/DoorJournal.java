@@ -0,0 +1,189 @@
+package dev.lsdmc.edencells.managers;
+
+import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.utils.BinarySnapshot;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+final class DoorJournal {
+
+    private static final long FLUSH_INTERVAL_TICKS = 20L;
+    private static final int COMPACT_THRESHOLD = 2000;
+
+    private final EdenCells plugin;
+    private final DoorIndex index;
+    private final File snapshotFile;
+    private final File journalFile;
+    private final File binaryFile;
+
+
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean compactRequested = new AtomicBoolean();
+    private final Object fileLock = new Object();
+    private int journalEntries = 0;
+    private BukkitTask flushTask;
+
+    @FunctionalInterface
+    interface EntryVisitor {
+        void accept(String key, String regionId);
+    }
+
+    DoorJournal(EdenCells plugin, DoorIndex index, File snapshotFile) {
+        this.plugin = plugin;
+        this.index = index;
+        this.snapshotFile = snapshotFile;
+        this.journalFile = new File(snapshotFile.getParentFile(), "doors.journal");
+        this.binaryFile = new File(snapshotFile.getParentFile(), "doors.bin");
+    }
+
+    void start() {
+        stop();
+        flushTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::flush,
+            FLUSH_INTERVAL_TICKS, FLUSH_INTERVAL_TICKS);
+    }
+
+    void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+    }
+
+
+    void recordLink(String key, String regionId) {
+        pending.add("+\t" + key + "\t" + regionId);
+    }
+
+    void recordUnlink(String key) {
+        pending.add("-\t" + key);
+    }
+
+
+    boolean hasFreshBinary() {
+        return BinarySnapshot.isFresh(binaryFile, snapshotFile);
+    }
+    
+    
+    boolean loadBinary() {
+        try {
+            BinarySnapshot.Reader reader = BinarySnapshot.Reader.open(binaryFile, "doors");
+            String world;
+            while ((world = reader.readString()) != null) {
+                String regionId = reader.readString();
+                int x = reader.readSignedVarInt();
+                int y = reader.readSignedVarInt();
+                int z = reader.readSignedVarInt();
+                if (regionId != null) {
+                    index.put(world, x, y, z, regionId);
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to load doors.bin, falling back to doors.yml: " + e.getMessage());
+            index.clear();
+            return false;
+        }
+    }
+
+
+    int replay(EntryVisitor visitor) {
+        if (!journalFile.exists()) {
+            return 0;
+        }
+
+        int replayed = 0;
+        synchronized (fileLock) {
+            try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split("\t", 3);
+                    if (parts.length == 3 && parts[0].equals("+")) {
+                        visitor.accept(parts[1], parts[2]);
+                    } else if (parts.length == 2 && parts[0].equals("-")) {
+                        visitor.accept(parts[1], null);
+                    } else {
+                        continue;
+                    }
+                    replayed++;
+                }
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to replay door journal: " + e.getMessage());
+            }
+            journalEntries = replayed;
+        }
+        return replayed;
+    }
+
+
+    void flush() {
+        synchronized (fileLock) {
+            if (!pending.isEmpty()) {
+                try (BufferedWriter writer = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    String line;
+                    while ((line = pending.poll()) != null) {
+                        writer.write(line);
+                        writer.newLine();
+                        journalEntries++;
+                    }
+                } catch (IOException e) {
+                    plugin.getLogger().severe("Failed to append door journal: " + e.getMessage());
+                    return;
+                }
+            }
+
+            if (journalEntries >= COMPACT_THRESHOLD || compactRequested.getAndSet(false)) {
+                compact();
+            }
+        }
+    }
+
+    void requestCompaction() {
+        compactRequested.set(true);
+    }
+
+
+    void compact() {
+        synchronized (fileLock) {
+            YamlConfiguration config = new YamlConfiguration();
+            BinarySnapshot.Writer binary = new BinarySnapshot.Writer("doors");
+            index.forEach((world, x, y, z, regionId) -> {
+                config.set(DoorManager.formatKey(world, x, y, z), regionId);
+                binary.writeString(world).writeString(regionId)
+                    .writeSignedVarInt(x).writeSignedVarInt(y).writeSignedVarInt(z);
+            });
+            binary.writeString(null);
+
+            File temp = new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".tmp");
+            try {
+                config.save(temp);
+                try {
+                    Files.move(temp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                binary.save(binaryFile, snapshotFile);
+                Files.deleteIfExists(journalFile.toPath());
+                journalEntries = 0;
+                plugin.debug("Compacted door journal into snapshot with " + index.size() + " door links");
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to compact door journal: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package dev.lsdmc.edencells.managers;
 
 import dev.lsdmc.edencells.EdenCells;
 import dev.lsdmc.edencells.security.SecurityManager;
+import dev.lsdmc.edencells.utils.ConfigManager;
 import dev.lsdmc.edencells.utils.Constants;
 import net.alex9849.arm.AdvancedRegionMarket;
 import net.alex9849.arm.regions.Region;
@@ -20,7 +21,6 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -32,9 +32,10 @@ public final class DoorManager {
     private final SecurityManager security;
     
     
-    private final Map<String, String> doorLinks = new ConcurrentHashMap<>();
-    private final Set<Material> validDoorMaterials = new HashSet<>();
+    private final DoorIndex doorLinks = new DoorIndex();
+    private final Set<Material> validDoorMaterials = EnumSet.noneOf(Material.class);
     private File doorsFile;
+    private final DoorJournal journal;
     
     
     private final Map<UUID, Long> doorCooldowns = new ConcurrentHashMap<>();
@@ -52,9 +53,11 @@ public final class DoorManager {
         this.cellManager = cellManager;
         this.security = security;
         this.doorsFile = new File(plugin.getDataFolder(), "doors.yml");
+        this.journal = new DoorJournal(plugin, doorLinks, doorsFile);
         
         loadConfig();
         loadDoors();
+        journal.start();
     }
 
     
@@ -63,94 +66,81 @@ public final class DoorManager {
     }
     
     
+    public void disable() {
+        journal.stop();
+        saveDoors();
+    }
+    
+    
     private void loadConfig() {
-        FileConfiguration config = plugin.getConfig();
-        
-        
-        playSounds = plugin.getConfigManager().areDoorSoundsEnabled();
-        String openSoundName = plugin.getConfigManager().getDoorOpenSound();
-        String closeSoundName = plugin.getConfigManager().getDoorCloseSound();
-        soundVolume = plugin.getConfigManager().getDoorSoundVolume();
-        soundPitch = plugin.getConfigManager().getDoorSoundPitch();
+        ConfigManager.Snapshot config = plugin.getConfigManager().snapshot();
         
         
-        try {
-            openSound = Sound.valueOf(openSoundName.toUpperCase().replace(".", "_"));
-        } catch (IllegalArgumentException e) {
-            openSound = Sound.BLOCK_IRON_DOOR_OPEN;
-            plugin.getLogger().warning("Invalid open sound: " + openSoundName + ", using default");
-        }
-        
-        try {
-            closeSound = Sound.valueOf(closeSoundName.toUpperCase().replace(".", "_"));
-        } catch (IllegalArgumentException e) {
-            closeSound = Sound.BLOCK_IRON_DOOR_CLOSE;
-            plugin.getLogger().warning("Invalid close sound: " + closeSoundName + ", using default");
-        }
+        playSounds = config.doorSoundsEnabled();
+        openSound = config.doorOpenSound();
+        closeSound = config.doorCloseSound();
+        soundVolume = config.doorSoundVolume();
+        soundPitch = config.doorSoundPitch();
         
         
         validDoorMaterials.clear();
-        List<String> materials = plugin.getConfigManager().getValidDoorMaterials();
-        if (materials.isEmpty()) {
-            
-            validDoorMaterials.add(Material.IRON_DOOR);
-            validDoorMaterials.add(Material.OAK_DOOR);
-            validDoorMaterials.add(Material.SPRUCE_DOOR);
-            validDoorMaterials.add(Material.BIRCH_DOOR);
-            validDoorMaterials.add(Material.JUNGLE_DOOR);
-            validDoorMaterials.add(Material.ACACIA_DOOR);
-            validDoorMaterials.add(Material.DARK_OAK_DOOR);
-            validDoorMaterials.add(Material.CRIMSON_DOOR);
-            validDoorMaterials.add(Material.WARPED_DOOR);
-            validDoorMaterials.add(Material.IRON_TRAPDOOR);
-        } else {
-            for (String mat : materials) {
-                try {
-                    validDoorMaterials.add(Material.valueOf(mat.toUpperCase()));
-                } catch (IllegalArgumentException e) {
-                    plugin.getLogger().warning("Invalid door material: " + mat);
-                }
-            }
-        }
+        validDoorMaterials.addAll(config.doorMaterials());
     }
     
     
     public void linkDoor(Location location, String regionId) {
+        doorLinks.put(location.getWorld().getName(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), regionId);
         String key = locationToKey(location);
-        doorLinks.put(key, regionId);
-        saveDoors();
+        journal.recordLink(key, regionId);
         plugin.debug("Linked door at " + key + " to region " + regionId);
     }
     
     
     public void unlinkDoor(Location location) {
-        String key = locationToKey(location);
-        String regionId = doorLinks.remove(key);
+        unlinkDoor(location.getWorld().getName(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+    
+    
+    public void unlinkDoor(String world, int x, int y, int z) {
+        String regionId = doorLinks.remove(world, x, y, z);
         if (regionId != null) {
-            saveDoors();
+            String key = formatKey(world, x, y, z);
+            journal.recordUnlink(key);
             plugin.debug("Unlinked door at " + key + " from region " + regionId);
         }
     }
     
     
     public String getLinkedRegion(Location location) {
-        
-        Block bottom = getBottomDoorBlock(location.getBlock());
+        return getLinkedRegion(location.getBlock());
+    }
+    
+    
+    public String getLinkedRegion(Block block) {
+        Block bottom = getBottomDoorBlock(block);
         if (bottom != null) {
-            String key = locationToKey(bottom.getLocation());
-            return doorLinks.get(key);
+            return doorLinks.get(bottom.getWorld().getName(), bottom.getX(), bottom.getY(), bottom.getZ());
         }
         return null;
     }
     
     
+    public boolean mayHaveLinkedDoor(Block block) {
+        return doorLinks.hasDoorsInChunk(block.getWorld().getName(), block.getX() >> 4, block.getZ() >> 4);
+    }
+    
+    
     public boolean isDoorLinked(Location location) {
         return getLinkedRegion(location) != null;
     }
     
     
     public boolean canAccessDoor(Player player, Location location) {
-        String regionId = getLinkedRegion(location);
+        return canAccessLinkedRegion(player, getLinkedRegion(location));
+    }
+    
+    
+    public boolean canAccessLinkedRegion(Player player, String regionId) {
         if (regionId == null) {
             return true; 
         }
@@ -163,6 +153,17 @@ public final class DoorManager {
             return false;
         }
         
+        
+        if (player.hasPermission(Constants.Permissions.BYPASS) ||
+            player.hasPermission(Constants.Permissions.ADMIN)) {
+            return true;
+        }
+        
+        
+        Set<String> accessible = plugin.getAccessIndex().getAccessible(player.getUniqueId());
+        if (accessible != null) {
+            return accessible.contains(RegionIndex.normalize(regionId));
+        }
         
         return cellManager.isOwner(player, region) || cellManager.hasAccess(player, region);
     }
@@ -221,7 +222,7 @@ public final class DoorManager {
             block.getWorld().playSound(block.getLocation(), sound, soundVolume, soundPitch);
         }
         
-        plugin.debug("Toggled door at " + locationToKey(block.getLocation()) + " to " + (!wasOpen ? "open" : "closed"));
+        plugin.debug("Toggled door at " + formatKey(block.getWorld().getName(), block.getX(), block.getY(), block.getZ()) + " to " + (!wasOpen ? "open" : "closed"));
     }
     
     
@@ -304,19 +305,36 @@ public final class DoorManager {
     
     
     public void loadDoors() {
-        if (!doorsFile.exists()) {
+        doorLinks.clear();
+        
+        if (journal.hasFreshBinary() && journal.loadBinary()) {
+            plugin.debug("Loaded door links from doors.bin");
+        } else if (doorsFile.exists()) {
+            journal.requestCompaction();
+            FileConfiguration config = YamlConfiguration.loadConfiguration(doorsFile);
+            
+            for (String key : config.getKeys(false)) {
+                String regionId = config.getString(key);
+                if (regionId == null) {
+                    continue;
+                }
+                if (!importLink(key, regionId)) {
+                    plugin.getLogger().warning("Skipping malformed door link key: " + key);
+                }
+            }
+        } else {
             plugin.getLogger().info("No doors.yml file found, starting fresh");
-            return;
         }
         
-        FileConfiguration config = YamlConfiguration.loadConfiguration(doorsFile);
-        doorLinks.clear();
         
-        for (String key : config.getKeys(false)) {
-            String regionId = config.getString(key);
-            if (regionId != null) {
-                doorLinks.put(key, regionId);
+        int replayed = journal.replay((key, regionId) -> {
+            if (!importLink(key, regionId)) {
+                plugin.getLogger().warning("Skipping malformed door journal entry: " + key);
             }
+        });
+        if (replayed > 0) {
+            plugin.getLogger().info("Replayed " + replayed + " door journal entries");
+            journal.requestCompaction();
         }
         
         plugin.getLogger().info("Loaded " + doorLinks.size() + " door links");
@@ -324,33 +342,54 @@ public final class DoorManager {
     
     
     public void saveDoors() {
-        FileConfiguration config = new YamlConfiguration();
-        
-        for (Map.Entry<String, String> entry : doorLinks.entrySet()) {
-            config.set(entry.getKey(), entry.getValue());
+        journal.flush();
+        journal.compact();
+        plugin.debug("Saved " + doorLinks.size() + " door links");
+    }
+    
+    
+    private String locationToKey(Location location) {
+        return formatKey(location.getWorld().getName(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+    
+    static String formatKey(String world, int x, int y, int z) {
+        return world + ":" + x + ":" + y + ":" + z;
+    }
+    
+    
+    private boolean importLink(String key, String regionId) {
+        int third = key.lastIndexOf(':');
+        int second = third > 0 ? key.lastIndexOf(':', third - 1) : -1;
+        int first = second > 0 ? key.lastIndexOf(':', second - 1) : -1;
+        if (first <= 0) {
+            return false;
         }
         
         try {
-            config.save(doorsFile);
-            plugin.debug("Saved " + doorLinks.size() + " door links");
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save door links: " + e.getMessage());
+            int x = Integer.parseInt(key.substring(first + 1, second));
+            int y = Integer.parseInt(key.substring(second + 1, third));
+            int z = Integer.parseInt(key.substring(third + 1));
+            if (regionId == null) {
+                doorLinks.remove(key.substring(0, first), x, y, z);
+            } else {
+                doorLinks.put(key.substring(0, first), x, y, z, regionId);
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
         }
     }
     
     
-    private String locationToKey(Location location) {
-        return String.format("%s:%d:%d:%d",
-            location.getWorld().getName(),
-            location.getBlockX(),
-            location.getBlockY(),
-            location.getBlockZ()
-        );
+    public Map<String, String> getAllDoorLinks() {
+        Map<String, String> links = new HashMap<>();
+        doorLinks.forEach((world, x, y, z, regionId) -> links.put(formatKey(world, x, y, z), regionId));
+        return links;
     }
     
     
-    public Map<String, String> getAllDoorLinks() {
-        return new HashMap<>(doorLinks);
+    public void forEachDoorLink(DoorIndex.DoorVisitor visitor) {
+        doorLinks.forEach(visitor);
     }
     
     
@@ -361,23 +400,18 @@ public final class DoorManager {
     
     public int cleanupInvalidLinks() {
         int removed = 0;
-        Iterator<Map.Entry<String, String>> iter = doorLinks.entrySet().iterator();
         
-        while (iter.hasNext()) {
-            Map.Entry<String, String> entry = iter.next();
-            String regionId = entry.getValue();
-            
-            
-            Region region = plugin.findRegionById(regionId);
-            if (region == null) {
-                iter.remove();
-                removed++;
-                plugin.getLogger().info("Removed invalid door link to non-existent region: " + regionId);
+        for (String regionId : doorLinks.getLinkedRegionIds()) {
+            if (plugin.findRegionById(regionId) != null) {
+                continue;
             }
-        }
-        
-        if (removed > 0) {
-            saveDoors();
+            for (DoorIndex.LinkedDoor door : doorLinks.getDoors(regionId)) {
+                if (doorLinks.remove(door.world(), door.x(), door.y(), door.z()) != null) {
+                    journal.recordUnlink(formatKey(door.world(), door.x(), door.y(), door.z()));
+                    removed++;
+                }
+            }
+            plugin.getLogger().info("Removed invalid door links to non-existent region: " + regionId);
         }
         
         return removed;
@@ -387,9 +421,11 @@ public final class DoorManager {
     public void syncDoorOwnershipForRegion(String regionId) {
         plugin.debug("Syncing door ownership for region: " + regionId);
         
-        
-        List<Location> linkedDoors = findDoorsLinkedToRegion(regionId);
-        
+        syncDoorOwnership(regionId, doorLinks.getDoors(regionId));
+    }
+    
+    
+    private void syncDoorOwnership(String regionId, List<DoorIndex.LinkedDoor> linkedDoors) {
         if (linkedDoors.isEmpty()) {
             plugin.debug("No doors linked to region: " + regionId);
             return;
@@ -400,8 +436,8 @@ public final class DoorManager {
         if (region == null) {
             plugin.debug("Region no longer exists, unlinking doors: " + regionId);
             
-            for (Location doorLocation : linkedDoors) {
-                unlinkDoor(doorLocation);
+            for (DoorIndex.LinkedDoor door : linkedDoors) {
+                unlinkDoor(door.world(), door.x(), door.y(), door.z());
             }
             return;
         }
@@ -422,12 +458,10 @@ public final class DoorManager {
     public List<Location> findDoorsLinkedToRegion(String regionId) {
         List<Location> linkedDoors = new ArrayList<>();
         
-        for (Map.Entry<String, String> entry : doorLinks.entrySet()) {
-            if (regionId.equals(entry.getValue())) {
-                Location doorLocation = parseLocationFromKey(entry.getKey());
-                if (doorLocation != null) {
-                    linkedDoors.add(doorLocation);
-                }
+        for (DoorIndex.LinkedDoor door : doorLinks.getDoors(regionId)) {
+            World world = plugin.getServer().getWorld(door.world());
+            if (world != null) {
+                linkedDoors.add(new Location(world, door.x(), door.y(), door.z()));
             }
         }
         
@@ -439,49 +473,20 @@ public final class DoorManager {
         plugin.debug("Starting full door ownership sync");
         
         int syncedDoors = 0;
-        Map<String, List<Location>> regionDoors = new HashMap<>();
+        int regions = 0;
         
         
-        for (Map.Entry<String, String> entry : doorLinks.entrySet()) {
-            String regionId = entry.getValue();
-            Location doorLocation = parseLocationFromKey(entry.getKey());
-            
-            if (doorLocation != null) {
-                regionDoors.computeIfAbsent(regionId, k -> new ArrayList<>()).add(doorLocation);
+        for (String regionId : doorLinks.getLinkedRegionIds()) {
+            List<DoorIndex.LinkedDoor> doors = doorLinks.getDoors(regionId);
+            if (doors.isEmpty()) {
+                continue;
             }
+            syncDoorOwnership(regionId, doors);
+            syncedDoors += doors.size();
+            regions++;
         }
         
-        
-        for (String regionId : regionDoors.keySet()) {
-            syncDoorOwnershipForRegion(regionId);
-            syncedDoors += regionDoors.get(regionId).size();
-        }
-        
-        plugin.debug("Synced " + syncedDoors + " doors across " + regionDoors.size() + " regions");
+        plugin.debug("Synced " + syncedDoors + " doors across " + regions + " regions");
         return syncedDoors;
     }
-    
-    
-    private Location parseLocationFromKey(String doorKey) {
-        try {
-            String[] parts = doorKey.split(":");
-            if (parts.length != 4) {
-                return null;
-            }
-            
-            String worldName = parts[0];
-            int x = Integer.parseInt(parts[1]);
-            int y = Integer.parseInt(parts[2]);
-            int z = Integer.parseInt(parts[3]);
-            
-            org.bukkit.World world = plugin.getServer().getWorld(worldName);
-            if (world == null) {
-                return null;
-            }
-            
-            return new Location(world, x, y, z);
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
-} 
\ No newline at end of file
+}
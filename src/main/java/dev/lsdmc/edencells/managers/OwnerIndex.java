@@ -0,0 +1,217 @@
+package dev.lsdmc.edencells.managers;
+
+import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.models.CellGroup;
+import dev.lsdmc.edencells.models.CellGroupManager;
+import net.alex9849.arm.regions.Region;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public final class OwnerIndex {
+
+    private final EdenCells plugin;
+
+
+    private volatile Map<String, UUID> ownerByRegion = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Map<String, Region>> cellsByOwner = new ConcurrentHashMap<>();
+    private volatile Map<UUID, Map<String, Integer>> groupCounts = new ConcurrentHashMap<>();
+    private volatile Map<String, List<String>> countedGroups = new ConcurrentHashMap<>();
+
+    public OwnerIndex(EdenCells plugin) {
+        this.plugin = plugin;
+    }
+
+
+    public synchronized void rebuild(Collection<RegionIndex.RegionState> states) {
+        Map<String, UUID> newOwnerByRegion = new ConcurrentHashMap<>();
+        Map<UUID, Map<String, Region>> newCellsByOwner = new ConcurrentHashMap<>();
+
+        for (RegionIndex.RegionState state : states) {
+            UUID owner = state.owner();
+            if (owner == null) {
+                continue;
+            }
+            newOwnerByRegion.put(state.key(), owner);
+            newCellsByOwner.computeIfAbsent(owner, o -> new ConcurrentHashMap<>()).put(state.key(), state.region());
+        }
+
+        this.ownerByRegion = newOwnerByRegion;
+        this.cellsByOwner = newCellsByOwner;
+
+        CellGroupManager groupManager = plugin.getCellGroupManager();
+        if (groupManager != null) {
+            recountGroups(groupManager.getAllGroups().values());
+        }
+    }
+
+
+    public synchronized void recountGroups(Collection<CellGroup> groups) {
+        Map<UUID, Map<String, Integer>> newCounts = new ConcurrentHashMap<>();
+        Map<String, List<String>> newCounted = new ConcurrentHashMap<>();
+        Map<String, UUID> owners = ownerByRegion;
+
+        for (CellGroup group : groups) {
+            for (String regionId : group.getRegions()) {
+                String key = RegionIndex.normalize(regionId);
+                UUID owner = owners.get(key);
+                if (owner != null) {
+                    newCounts.computeIfAbsent(owner, o -> new ConcurrentHashMap<>()).merge(group.getName(), 1, Integer::sum);
+                    newCounted.computeIfAbsent(key, k -> new ArrayList<>()).add(group.getName());
+                }
+            }
+        }
+
+        this.groupCounts = newCounts;
+        this.countedGroups = newCounted;
+    }
+
+
+    public synchronized void refreshRegionGroups(Collection<String> regionIds) {
+        CellGroupManager groupManager = plugin.getCellGroupManager();
+        if (groupManager == null) {
+            return;
+        }
+
+        for (String regionId : regionIds) {
+            String key = RegionIndex.normalize(regionId);
+            UUID owner = ownerByRegion.get(key);
+            if (owner == null) {
+                continue;
+            }
+            List<String> current = groupNames(groupManager.getGroupsByRegion(regionId));
+            List<String> previous = countedGroups.getOrDefault(key, List.of());
+            for (String name : previous) {
+                if (!current.contains(name)) {
+                    adjustGroupCount(owner, name, -1);
+                }
+            }
+            for (String name : current) {
+                if (!previous.contains(name)) {
+                    adjustGroupCount(owner, name, 1);
+                }
+            }
+            if (current.isEmpty()) {
+                countedGroups.remove(key);
+            } else {
+                countedGroups.put(key, current);
+            }
+        }
+    }
+
+
+    public synchronized void update(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+        reassign(region, ownerOf(region));
+    }
+
+
+    public synchronized void release(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+        reassign(region, null);
+    }
+
+    private void reassign(Region region, UUID newOwner) {
+        String regionId = region.getRegion().getId();
+        String key = RegionIndex.normalize(regionId);
+        UUID oldOwner = ownerByRegion.get(key);
+        if (newOwner == null ? oldOwner == null : newOwner.equals(oldOwner)) {
+            return;
+        }
+
+        if (oldOwner != null) {
+            ownerByRegion.remove(key);
+            Map<String, Region> cells = cellsByOwner.get(oldOwner);
+            if (cells != null) {
+                cells.remove(key);
+                if (cells.isEmpty()) {
+                    cellsByOwner.remove(oldOwner);
+                }
+            }
+            List<String> counted = countedGroups.remove(key);
+            if (counted != null) {
+                for (String name : counted) {
+                    adjustGroupCount(oldOwner, name, -1);
+                }
+            }
+        }
+
+        if (newOwner != null) {
+            ownerByRegion.put(key, newOwner);
+            cellsByOwner.computeIfAbsent(newOwner, o -> new ConcurrentHashMap<>()).put(key, region);
+            CellGroupManager groupManager = plugin.getCellGroupManager();
+            List<String> names = groupManager != null ? groupNames(groupManager.getGroupsByRegion(regionId)) : List.of();
+            for (String name : names) {
+                adjustGroupCount(newOwner, name, 1);
+            }
+            if (!names.isEmpty()) {
+                countedGroups.put(key, names);
+            }
+        }
+    }
+
+
+    public int getCellCount(UUID playerUuid) {
+        if (playerUuid == null) {
+            return 0;
+        }
+        Map<String, Region> cells = cellsByOwner.get(playerUuid);
+        return cells != null ? cells.size() : 0;
+    }
+
+
+    public int getCellCount(UUID playerUuid, CellGroup group) {
+        if (playerUuid == null || group == null) {
+            return 0;
+        }
+        Map<String, Integer> counts = groupCounts.get(playerUuid);
+        return counts != null ? counts.getOrDefault(group.getName(), 0) : 0;
+    }
+
+    public List<Region> getCells(UUID playerUuid) {
+        if (playerUuid == null) {
+            return List.of();
+        }
+        Map<String, Region> cells = cellsByOwner.get(playerUuid);
+        return cells != null ? List.copyOf(cells.values()) : List.of();
+    }
+
+    public UUID getOwner(String regionId) {
+        return regionId != null ? ownerByRegion.get(RegionIndex.normalize(regionId)) : null;
+    }
+
+    private void adjustGroupCount(UUID owner, String groupName, int delta) {
+        Map<String, Integer> counts = groupCounts.computeIfAbsent(owner, o -> new ConcurrentHashMap<>());
+        counts.compute(groupName, (name, current) -> {
+            int next = (current != null ? current : 0) + delta;
+            return next > 0 ? next : null;
+        });
+        if (counts.isEmpty()) {
+            groupCounts.remove(owner);
+        }
+    }
+
+    private static List<String> groupNames(List<CellGroup> groups) {
+        List<String> names = new ArrayList<>(groups.size());
+        for (CellGroup group : groups) {
+            names.add(group.getName());
+        }
+        return List.copyOf(names);
+    }
+
+    private static UUID ownerOf(Region region) {
+        if (region == null || region.getRegion() == null || !region.isSold()) {
+            return null;
+        }
+        return region.getOwner();
+    }
+}
@@ -0,0 +1,416 @@
+package dev.lsdmc.edencells.managers;
+
+import dev.lsdmc.edencells.EdenCells;
+import net.alex9849.arm.AdvancedRegionMarket;
+import net.alex9849.arm.regions.Region;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+
+public final class RegionIndex {
+
+    private static final int CAPTURE_BATCH = 1000;
+
+    private final EdenCells plugin;
+    private final AdvancedRegionMarket arm;
+    private final Map<Region, Boolean> touched = new ConcurrentHashMap<>();
+    private CompletableFuture<Void> pending;
+    private volatile boolean rebuilding;
+
+
+    private volatile Map<String, Map<String, Region>> byWorld = new ConcurrentHashMap<>();
+    private volatile Map<String, Region> byId = new ConcurrentHashMap<>();
+    private volatile ConcurrentSkipListMap<String, String> sortedIds = new ConcurrentSkipListMap<>();
+    private volatile Map<String, ConcurrentSkipListMap<Integer, Set<String>>> numbered = new ConcurrentHashMap<>();
+    private volatile long lastRebuild = 0L;
+
+    public record RegionState(Region region, String key, String id, String world, boolean sold, UUID owner,
+                              Set<UUID> access) {}
+
+    public RegionIndex(EdenCells plugin, AdvancedRegionMarket arm) {
+        this.plugin = plugin;
+        this.arm = arm;
+    }
+
+
+    public void start() {
+        if (arm == null) {
+            return;
+        }
+
+        List<RegionState> states = new ArrayList<>();
+        try {
+            for (Region region : regions()) {
+                capture(region, states);
+            }
+            publish(states);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Error rebuilding region index: " + e.getMessage());
+        }
+    }
+
+
+    public synchronized CompletableFuture<Void> rebuild() {
+        if (arm == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        pending = future;
+        try {
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                touched.clear();
+                rebuilding = true;
+                captureBatch(regions(), new ArrayList<>(), 0, future);
+            });
+        } catch (Exception e) {
+            fail(future, e);
+        }
+        return future;
+    }
+
+    private void captureBatch(List<Region> regions, List<RegionState> states, int from, CompletableFuture<Void> future) {
+        try {
+            int to = Math.min(regions.size(), from + CAPTURE_BATCH);
+            for (int i = from; i < to; i++) {
+                capture(regions.get(i), states);
+            }
+            if (to < regions.size()) {
+                plugin.getServer().getScheduler().runTask(plugin, () -> captureBatch(regions, states, to, future));
+                return;
+            }
+
+            plugin.getAsyncExecutor().execute(() -> {
+                try {
+                    publish(states);
+                    plugin.getServer().getScheduler().runTask(plugin, () -> complete(future));
+                } catch (Exception e) {
+                    fail(future, e);
+                }
+            });
+        } catch (Exception e) {
+            fail(future, e);
+        }
+    }
+
+    private void publish(List<RegionState> states) {
+        Map<String, Map<String, Region>> newByWorld = new ConcurrentHashMap<>();
+        Map<String, Region> newById = new ConcurrentHashMap<>();
+        ConcurrentSkipListMap<String, String> newSortedIds = new ConcurrentSkipListMap<>();
+        Map<String, ConcurrentSkipListMap<Integer, Set<String>>> newNumbered = new ConcurrentHashMap<>();
+
+        for (RegionState state : states) {
+            if (state.world() != null) {
+                newByWorld.computeIfAbsent(state.world(), w -> new ConcurrentHashMap<>()).put(state.key(), state.region());
+            }
+            newById.putIfAbsent(state.key(), state.region());
+            newSortedIds.putIfAbsent(state.key(), state.id());
+            indexNumbered(newNumbered, state.key());
+        }
+
+        this.byWorld = newByWorld;
+        this.byId = newById;
+        this.sortedIds = newSortedIds;
+        this.numbered = newNumbered;
+        this.lastRebuild = System.currentTimeMillis();
+
+        VacancyIndex vacancies = plugin.getVacancyIndex();
+        if (vacancies != null) {
+            vacancies.rebuild(states);
+        }
+        OwnerIndex owners = plugin.getOwnerIndex();
+        if (owners != null) {
+            owners.rebuild(states);
+        }
+        AccessIndex access = plugin.getAccessIndex();
+        if (access != null) {
+            access.rebuild(states);
+        }
+        plugin.debug("Region index rebuilt with " + states.size() + " regions across " + newByWorld.size() + " worlds");
+    }
+
+    private void complete(CompletableFuture<Void> future) {
+        rebuilding = false;
+        List<Map.Entry<Region, Boolean>> replay = new ArrayList<>(touched.entrySet());
+        touched.clear();
+        for (Map.Entry<Region, Boolean> entry : replay) {
+            if (entry.getValue()) {
+                track(entry.getKey());
+            } else {
+                forget(entry.getKey());
+            }
+        }
+
+        synchronized (this) {
+            pending = null;
+        }
+        future.complete(null);
+    }
+
+    private void fail(CompletableFuture<Void> future, Exception e) {
+        plugin.getLogger().warning("Error rebuilding region index: " + e.getMessage());
+        rebuilding = false;
+        touched.clear();
+        synchronized (this) {
+            pending = null;
+        }
+        future.completeExceptionally(e);
+    }
+
+    private List<Region> regions() {
+        List<Region> regions = new ArrayList<>();
+        for (Region region : arm.getRegionManager()) {
+            regions.add(region);
+        }
+        return regions;
+    }
+
+    private static void capture(Region region, List<RegionState> states) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+        String id = region.getRegion().getId();
+        World world = region.getRegionworld();
+        boolean sold = region.isSold();
+        states.add(new RegionState(region, normalize(id), id, world != null ? world.getName() : null,
+            sold, sold ? region.getOwner() : null, AccessIndex.allowedOf(region)));
+    }
+
+
+    public Region find(String regionId) {
+        if (regionId == null || regionId.trim().isEmpty()) {
+            return null;
+        }
+
+        return byId.get(normalize(regionId));
+    }
+
+
+    public Region find(String regionId, World world) {
+        if (regionId == null || regionId.trim().isEmpty() || world == null) {
+            return null;
+        }
+
+        return lookup(world.getName(), normalize(regionId));
+    }
+
+
+    public void track(Region region) {
+        add(region);
+        if (plugin.getCellManager() != null) {
+            plugin.getCellManager().refreshRegionState(region);
+        }
+    }
+
+
+    public void forget(Region region) {
+        remove(region);
+        if (plugin.getVacancyIndex() != null) {
+            plugin.getVacancyIndex().remove(region);
+        }
+        if (plugin.getOwnerIndex() != null) {
+            plugin.getOwnerIndex().release(region);
+        }
+        if (plugin.getAccessIndex() != null) {
+            plugin.getAccessIndex().remove(region);
+        }
+    }
+
+
+    public void touch(Region region) {
+        if (rebuilding && region != null) {
+            touched.putIfAbsent(region, Boolean.TRUE);
+        }
+    }
+
+
+    public void add(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+        if (rebuilding) {
+            touched.put(region, Boolean.TRUE);
+        }
+
+        String key = normalize(region.getRegion().getId());
+        World world = region.getRegionworld();
+        if (world != null) {
+            byWorld.computeIfAbsent(world.getName(), w -> new ConcurrentHashMap<>()).put(key, region);
+        }
+        byId.putIfAbsent(key, region);
+        sortedIds.putIfAbsent(key, region.getRegion().getId());
+        indexNumbered(numbered, key);
+    }
+
+
+    public void remove(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+        if (rebuilding) {
+            touched.put(region, Boolean.FALSE);
+        }
+
+        String key = normalize(region.getRegion().getId());
+        World world = region.getRegionworld();
+        if (world != null) {
+            Map<String, Region> worldMap = byWorld.get(world.getName());
+            if (worldMap != null) {
+                worldMap.remove(key, region);
+            }
+        }
+        if (byId.remove(key, region)) {
+            for (Map<String, Region> worldMap : byWorld.values()) {
+                Region other = worldMap.get(key);
+                if (other != null) {
+                    byId.putIfAbsent(key, other);
+                    break;
+                }
+            }
+            if (!byId.containsKey(key)) {
+                sortedIds.remove(key);
+                unindexNumbered(numbered, key);
+            }
+        }
+    }
+
+
+    public List<String> complete(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+        List<String> result = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, String> entry : sortedIds.tailMap(key, true).entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(key)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+    public List<Region> findInRange(String prefix, int from, int to) {
+        if (prefix == null || from > to) {
+            return List.of();
+        }
+
+        ConcurrentSkipListMap<Integer, Set<String>> numbers = numbered.get(prefix.toLowerCase(Locale.ROOT));
+        if (numbers == null) {
+            return List.of();
+        }
+
+        List<Region> result = new ArrayList<>();
+        for (Set<String> keys : numbers.subMap(from, true, to, true).values()) {
+            for (String key : keys) {
+                Region region = byId.get(key);
+                if (region != null) {
+                    result.add(region);
+                }
+            }
+        }
+        return result;
+    }
+
+
+    public List<Region> findByPrefix(String prefix) {
+        String key = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+        List<Region> result = new ArrayList<>();
+        for (String id : sortedIds.tailMap(key, true).keySet()) {
+            if (!id.startsWith(key)) {
+                break;
+            }
+            Region region = byId.get(id);
+            if (region != null) {
+                result.add(region);
+            }
+        }
+        return result;
+    }
+
+    public List<Region> getAll() {
+        return List.copyOf(byId.values());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public long getLastRebuild() {
+        return lastRebuild;
+    }
+
+    private Region lookup(String worldName, String key) {
+        Map<String, Region> worldMap = byWorld.get(worldName);
+        return worldMap != null ? worldMap.get(key) : null;
+    }
+
+
+    private static void indexNumbered(Map<String, ConcurrentSkipListMap<Integer, Set<String>>> target, String key) {
+        int split = firstDigit(key);
+        Integer number = parseSuffix(key, split);
+        if (number == null) {
+            return;
+        }
+        target.computeIfAbsent(key.substring(0, split), p -> new ConcurrentSkipListMap<>())
+            .computeIfAbsent(number, n -> ConcurrentHashMap.newKeySet())
+            .add(key);
+    }
+
+    private static void unindexNumbered(Map<String, ConcurrentSkipListMap<Integer, Set<String>>> target, String key) {
+        int split = firstDigit(key);
+        Integer number = parseSuffix(key, split);
+        if (number == null) {
+            return;
+        }
+        ConcurrentSkipListMap<Integer, Set<String>> numbers = target.get(key.substring(0, split));
+        if (numbers == null) {
+            return;
+        }
+        Set<String> keys = numbers.get(number);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                numbers.remove(number);
+            }
+        }
+    }
+
+    private static int firstDigit(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (Character.isDigit(key.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Integer parseSuffix(String key, int split) {
+        if (split < 0 || key.length() - split > 9) {
+            return null;
+        }
+        for (int i = split; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.parseInt(key.substring(split));
+    }
+
+    static String normalize(String regionId) {
+        return regionId.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,108 @@
+package dev.lsdmc.edencells.managers;
+
+import net.alex9849.arm.regions.Region;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+
+public final class RegionPattern {
+
+    private enum Kind { RANGE, WILDCARD, EXACT }
+
+    private final String source;
+    private final Kind kind;
+    private final String prefix;
+    private final int from;
+    private final int to;
+    private final Pattern regex;
+
+    private RegionPattern(String source, Kind kind, String prefix, int from, int to, Pattern regex) {
+        this.source = source;
+        this.kind = kind;
+        this.prefix = prefix;
+        this.from = from;
+        this.to = to;
+        this.regex = regex;
+    }
+
+
+    public static RegionPattern compile(String pattern) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("Pattern cannot be null or empty");
+        }
+
+        String trimmed = pattern.trim();
+
+        if (trimmed.contains("-") && !trimmed.startsWith("-") && !trimmed.endsWith("-")) {
+            String[] parts = trimmed.split("-");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid range pattern: " + trimmed);
+            }
+
+            String firstPart = parts[0];
+            int split = -1;
+            for (int i = 0; i < firstPart.length(); i++) {
+                if (Character.isDigit(firstPart.charAt(i))) {
+                    split = i;
+                    break;
+                }
+            }
+
+            try {
+                String prefix = split < 0 ? firstPart : firstPart.substring(0, split);
+                int start = split < 0 ? 0 : Integer.parseInt(firstPart.substring(split));
+                int end = Integer.parseInt(parts[1]);
+                return new RegionPattern(trimmed, Kind.RANGE, prefix, start, end, null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid range pattern: " + trimmed);
+            }
+        }
+
+        if (trimmed.contains("*") || trimmed.contains("?")) {
+            StringBuilder regex = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+            int firstWildcard = -1;
+            for (int i = 0; i < trimmed.length(); i++) {
+                char c = trimmed.charAt(i);
+                if (c == '*' || c == '?') {
+                    if (firstWildcard < 0) {
+                        firstWildcard = i;
+                    }
+                    if (literal.length() > 0) {
+                        regex.append(Pattern.quote(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    regex.append(c == '*' ? ".*" : ".");
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+            }
+            return new RegionPattern(trimmed, Kind.WILDCARD, trimmed.substring(0, firstWildcard), 0, 0,
+                Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE));
+        }
+
+        return new RegionPattern(trimmed, Kind.EXACT, trimmed, 0, 0, null);
+    }
+
+
+    public List<Region> resolve(RegionIndex index) {
+        return switch (kind) {
+            case RANGE -> index.findInRange(prefix, from, to);
+            case WILDCARD -> index.findByPrefix(prefix).stream()
+                .filter(region -> regex.matcher(region.getRegion().getId()).matches())
+                .toList();
+            case EXACT -> {
+                Region region = index.find(prefix);
+                yield region != null ? List.of(region) : List.of();
+            }
+        };
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
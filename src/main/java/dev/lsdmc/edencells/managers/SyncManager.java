@@ -7,7 +7,6 @@ import dev.lsdmc.edencells.utils.MessageUtils;
 import net.alex9849.arm.AdvancedRegionMarket;
 import net.alex9849.arm.regions.Region;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -85,6 +84,9 @@ public final class SyncManager {
             }
             
             plugin.debug("Starting full ARM sync");
+            if (plugin.getRegionIndex() != null) {
+                plugin.getRegionIndex().rebuild().exceptionally(e -> null).join();
+            }
             
             
             int[] regionStats = validateCellGroupRegions(sender, errors);
@@ -212,41 +214,33 @@ public final class SyncManager {
             MessageUtils.send(sender, "<color:#06FFA5>Step 2: Cleaning up orphaned door links...</color>");
         }
         
-        int orphanedDoors = 0;
-        Map<String, String> doorLinks = doorManager.getAllDoorLinks();
-        Set<String> doorsToRemove = new HashSet<>();
+        List<DoorIndex.LinkedDoor> doorsToRemove = new ArrayList<>();
         
-        for (Map.Entry<String, String> entry : doorLinks.entrySet()) {
-            String doorKey = entry.getKey();
-            String regionId = entry.getValue();
-            
-            
+        doorManager.forEachDoorLink((world, x, y, z, regionId) -> {
             Region region = plugin.findRegionById(regionId);
             if (region == null) {
-                orphanedDoors++;
-                doorsToRemove.add(doorKey);
-                errors.add("Orphaned door link: " + doorKey + " -> " + regionId);
-                plugin.debug("Found orphaned door link: " + doorKey + " -> " + regionId);
-                continue;
+                DoorIndex.LinkedDoor door = new DoorIndex.LinkedDoor(world, x, y, z);
+                doorsToRemove.add(door);
+                errors.add("Orphaned door link: " + door + " -> " + regionId);
+                plugin.debug("Found orphaned door link: " + door + " -> " + regionId);
+                return;
             }
             
             
-            if (!isValidDoorLocation(doorKey)) {
-                orphanedDoors++;
-                doorsToRemove.add(doorKey);
-                errors.add("Invalid door location: " + doorKey);
-                plugin.debug("Found invalid door location: " + doorKey);
+            if (!isValidDoorLocation(world, x, y, z)) {
+                DoorIndex.LinkedDoor door = new DoorIndex.LinkedDoor(world, x, y, z);
+                doorsToRemove.add(door);
+                errors.add("Invalid door location: " + door);
+                plugin.debug("Found invalid door location: " + door);
             }
-        }
+        });
         
-        
-        for (String doorKey : doorsToRemove) {
-            Location doorLoc = parseLocationFromKey(doorKey);
-            if (doorLoc != null) {
-                doorManager.unlinkDoor(doorLoc);
-            }
+        
+        for (DoorIndex.LinkedDoor door : doorsToRemove) {
+            doorManager.unlinkDoor(door.world(), door.x(), door.y(), door.z());
         }
         
+        int orphanedDoors = doorsToRemove.size();
         if (orphanedDoors > 0 && sender != null) {
             MessageUtils.send(sender, "  <color:#FF6B6B>Removed " + orphanedDoors + " orphaned door links</color>");
         }
@@ -369,42 +363,14 @@ public final class SyncManager {
     }
     
     
-    private boolean isValidDoorLocation(String doorKey) {
-        Location location = parseLocationFromKey(doorKey);
-        if (location == null) {
-            return false;
-        }
-        
-        World world = location.getWorld();
+    private boolean isValidDoorLocation(String worldName, int x, int y, int z) {
+        World world = Bukkit.getWorld(worldName);
         if (world == null) {
             return false;
         }
         
         
-        return doorManager.isValidDoor(location.getBlock().getType());
-    }
-    
-    
-    private Location parseLocationFromKey(String doorKey) {
-        try {
-            String[] parts = doorKey.split(":");
-            if (parts.length != 4) {
-                return null;
-            }
-            
-            World world = Bukkit.getWorld(parts[0]);
-            if (world == null) {
-                return null;
-            }
-            
-            int x = Integer.parseInt(parts[1]);
-            int y = Integer.parseInt(parts[2]);
-            int z = Integer.parseInt(parts[3]);
-            
-            return new Location(world, x, y, z);
-        } catch (Exception e) {
-            return null;
-        }
+        return doorManager.isValidDoor(world.getBlockAt(x, y, z).getType());
     }
     
     
@@ -3,7 +3,10 @@ package dev.lsdmc.edencells.managers;
 import dev.lsdmc.edencells.EdenCells;
 import dev.lsdmc.edencells.models.CellGroup;
 import dev.lsdmc.edencells.security.SecurityManager;
+import dev.lsdmc.edencells.utils.BinarySnapshot;
+import dev.lsdmc.edencells.utils.ConfigManager;
 import dev.lsdmc.edencells.utils.Constants;
+import dev.lsdmc.edencells.utils.MessageCatalog;
 import dev.lsdmc.edencells.utils.MessageUtils;
 import dev.lsdmc.edencells.utils.PermissionManager;
 import net.alex9849.arm.regions.Region;
@@ -11,7 +14,6 @@ import net.citizensnpcs.api.CitizensAPI;
 import net.citizensnpcs.api.npc.NPC;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Location;
-import org.bukkit.Sound;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.EntityType;
@@ -41,6 +43,7 @@ public final class TeleportNPCManager {
 
     
     private File npcsFile;
+    private File binaryFile;
     private FileConfiguration npcsConfig;
 
     public record TeleportNpcData(
@@ -62,6 +65,7 @@ public final class TeleportNPCManager {
     
     private void setupNPCStorage() {
         npcsFile = new File(plugin.getDataFolder(), "teleport-npcs.yml");
+        binaryFile = new File(plugin.getDataFolder(), "teleport-npcs.bin");
         if (!npcsFile.exists()) {
             try {
                 npcsFile.createNewFile();
@@ -69,13 +73,18 @@ public final class TeleportNPCManager {
                 plugin.getLogger().severe("Could not create teleport-npcs.yml: " + e.getMessage());
             }
         }
-        npcsConfig = YamlConfiguration.loadConfiguration(npcsFile);
     }
 
     
     public void loadNPCs() {
         npcConfigs.clear();
 
+        if (BinarySnapshot.isFresh(binaryFile, npcsFile) && loadBinary()) {
+            plugin.getLogger().info("Loaded " + npcConfigs.size() + " teleport NPCs");
+            return;
+        }
+
+        npcsConfig = YamlConfiguration.loadConfiguration(npcsFile);
         if (!npcsConfig.contains("npcs")) {
             return;
         }
@@ -90,16 +99,7 @@ public final class TeleportNPCManager {
                 String worldName = npcsConfig.getString(path + ".world", "world");
 
                 if (!groupId.isEmpty()) {
-                    TeleportNpcData data = new TeleportNpcData(groupId, displayName, worldName);
-                    npcConfigs.put(npcId, data);
-
-                    
-                    if (CitizensAPI.hasImplementation()) {
-                        NPC npc = CitizensAPI.getNPCRegistry().getById(npcId);
-                        if (npc != null && !npc.hasTrait(dev.lsdmc.edencells.npc.TeleportNPC.class)) {
-                            npc.addTrait(dev.lsdmc.edencells.npc.TeleportNPC.class);
-                        }
-                    }
+                    addLoadedNpc(npcId, new TeleportNpcData(groupId, displayName, worldName));
                 }
             } catch (NumberFormatException e) {
                 plugin.getLogger().warning("Invalid NPC ID in config: " + npcIdStr);
@@ -107,10 +107,70 @@ public final class TeleportNPCManager {
         }
 
         plugin.getLogger().info("Loaded " + npcConfigs.size() + " teleport NPCs");
+        writeBinary();
+    }
+
+    
+    private void addLoadedNpc(int npcId, TeleportNpcData data) {
+        npcConfigs.put(npcId, data);
+
+        
+        if (CitizensAPI.hasImplementation()) {
+            NPC npc = CitizensAPI.getNPCRegistry().getById(npcId);
+            if (npc != null && !npc.hasTrait(dev.lsdmc.edencells.npc.TeleportNPC.class)) {
+                npc.addTrait(dev.lsdmc.edencells.npc.TeleportNPC.class);
+            }
+        }
+    }
+
+    
+    private boolean loadBinary() {
+        try {
+            BinarySnapshot.Reader reader = BinarySnapshot.Reader.open(binaryFile, "teleport-npcs");
+            int count = reader.readVarInt();
+            for (int i = 0; i < count; i++) {
+                int npcId = reader.readSignedVarInt();
+                String groupId = reader.readString();
+                String displayName = reader.readString();
+                String worldName = reader.readString();
+                if (groupId != null && !groupId.isEmpty()) {
+                    addLoadedNpc(npcId, new TeleportNpcData(groupId,
+                        displayName != null ? displayName : "Unknown",
+                        worldName != null ? worldName : "world"));
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to load teleport-npcs.bin, falling back to teleport-npcs.yml: " + e.getMessage());
+            npcConfigs.clear();
+            return false;
+        }
+    }
+
+    
+    private void writeBinary() {
+        BinarySnapshot.Writer writer = new BinarySnapshot.Writer("teleport-npcs");
+        writer.writeVarInt(npcConfigs.size());
+        for (Map.Entry<Integer, TeleportNpcData> entry : npcConfigs.entrySet()) {
+            TeleportNpcData data = entry.getValue();
+            writer.writeSignedVarInt(entry.getKey())
+                .writeString(data.groupId())
+                .writeString(data.displayName())
+                .writeString(data.worldName());
+        }
+
+        try {
+            writer.save(binaryFile, npcsFile);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not save teleport-npcs.bin: " + e.getMessage());
+        }
     }
 
     
     public void saveNPCs() {
+        if (npcsConfig == null) {
+            npcsConfig = YamlConfiguration.loadConfiguration(npcsFile);
+        }
         
         npcsConfig.set("npcs", null);
 
@@ -129,7 +189,9 @@ public final class TeleportNPCManager {
             npcsConfig.save(npcsFile);
         } catch (IOException e) {
             plugin.getLogger().severe("Could not save teleport-npcs.yml: " + e.getMessage());
+            return;
         }
+        writeBinary();
     }
 
     
@@ -267,10 +329,9 @@ public final class TeleportNPCManager {
         
         
         if (!plugin.getConfigManager().isTeleportationEnabled()) {
-            String message = plugin.getConfigManager().getTeleportationMessage("disabled");
-            plugin.debug("Sending disabled message: " + message);
-            MessageUtils.send(player, message);
-            playSound(player, plugin.getConfigManager().getTeleportationSoundError());
+            plugin.debug("Sending disabled message");
+            plugin.getMessageCatalog().send(player, "disabled");
+            playSound(player, plugin.getConfigManager().snapshot().teleportErrorSound());
             return;
         }
 
@@ -289,11 +350,7 @@ public final class TeleportNPCManager {
             
             CellGroup primary = plugin.getCellGroupManager().getGroup(groupId);
             if (primary != null) {
-                java.util.Set<String> primaryRegions = primary.getRegions();
-                for (var other : plugin.getCellGroupManager().getAllGroups().values()) {
-                    if (other == null || other.getName().equalsIgnoreCase(groupId)) continue;
-                    boolean overlaps = other.getRegions().stream().anyMatch(primaryRegions::contains);
-                    if (!overlaps) continue;
+                for (CellGroup other : plugin.getCellGroupManager().getOverlappingGroups(primary)) {
                     if (PermissionManager.hasGroupAccess(player, other)) {
                         hasNpcAccess = true;
                         break;
@@ -302,10 +359,9 @@ public final class TeleportNPCManager {
             }
         }
         if (!hasNpcAccess) {
-            String message = plugin.getConfigManager().getTeleportationMessage("no_permission");
-            plugin.debug("Sending no_permission message: " + message);
-            MessageUtils.send(player, message);
-            playSound(player, plugin.getConfigManager().getTeleportationSoundDenied());
+            plugin.debug("Sending no_permission message");
+            plugin.getMessageCatalog().send(player, "no_permission");
+            playSound(player, plugin.getConfigManager().snapshot().teleportDeniedSound());
             return;
         }
 
@@ -313,11 +369,10 @@ public final class TeleportNPCManager {
         if (!PermissionManager.hasBypassCooldown(player)) {
             long remainingCooldown = getRemainingCooldown(player);
             if (remainingCooldown > 0) {
-                String message = plugin.getConfigManager().getTeleportationMessage("cooldown")
-                        .replace("%seconds%", String.valueOf(remainingCooldown));
-                plugin.debug("Sending cooldown message: " + message);
-                MessageUtils.send(player, message);
-                playSound(player, plugin.getConfigManager().getTeleportationSoundDenied());
+                plugin.debug("Sending cooldown message");
+                plugin.getMessageCatalog().send(player, "cooldown",
+                        MessageCatalog.Arg.of("seconds", remainingCooldown));
+                playSound(player, plugin.getConfigManager().snapshot().teleportDeniedSound());
                 return;
             }
         }
@@ -332,12 +387,8 @@ public final class TeleportNPCManager {
         Region targetCell = findPlayerCellInGroup(player, cellGroup);
         if (targetCell == null) {
             
-            java.util.Set<String> primaryRegions = cellGroup.getRegions();
             Region fallback = null;
-            for (var other : plugin.getCellGroupManager().getAllGroups().values()) {
-                if (other == null || other.getName().equalsIgnoreCase(cellGroup.getName())) continue;
-                boolean overlaps = other.getRegions().stream().anyMatch(primaryRegions::contains);
-                if (!overlaps) continue;
+            for (CellGroup other : plugin.getCellGroupManager().getOverlappingGroups(cellGroup)) {
                 if (!PermissionManager.hasGroupAccess(player, other)) continue;
                 fallback = findPlayerCellInGroup(player, other);
                 if (fallback != null) {
@@ -347,11 +398,10 @@ public final class TeleportNPCManager {
                 }
             }
             if (targetCell == null) {
-                String message = plugin.getConfigManager().getTeleportationMessage("not_owner_in_group")
-                        .replace("%group%", cellGroup.getDisplayName());
-                plugin.debug("Sending not_owner_in_group message: " + message);
-                MessageUtils.send(player, message);
-                playSound(player, plugin.getConfigManager().getTeleportationSoundDenied());
+                plugin.debug("Sending not_owner_in_group message");
+                plugin.getMessageCatalog().send(player, "not_owner_in_group",
+                        MessageCatalog.Arg.of("group", cellGroup.getDisplayName()));
+                playSound(player, plugin.getConfigManager().snapshot().teleportDeniedSound());
                 return;
             }
         }
@@ -360,12 +410,7 @@ public final class TeleportNPCManager {
         double cost = determineTeleportCost(player, cellGroup);
         if (cost > 0) {
             
-            java.util.Set<String> primaryRegions = cellGroup.getRegions();
-            for (var other : plugin.getCellGroupManager().getAllGroups().values()) {
-                if (other == null || other.getName().equalsIgnoreCase(cellGroup.getName())) continue;
-                boolean overlaps = other.getRegions().stream().anyMatch(primaryRegions::contains);
-                if (!overlaps) continue;
-                
+            for (CellGroup other : plugin.getCellGroupManager().getOverlappingGroups(cellGroup)) {
                 if (PermissionManager.hasGroupAccess(player, other)) {
                     double otherCost = other.getTeleportCost();
                     if (otherCost == 0.0) {
@@ -379,38 +424,34 @@ public final class TeleportNPCManager {
         
         if (cost > 0) {
             if (economy == null) {
-                String message = plugin.getConfigManager().getTeleportationMessage("economy_missing");
-                plugin.debug("Sending economy_missing message: " + message);
-                MessageUtils.send(player, message);
-                playSound(player, plugin.getConfigManager().getTeleportationSoundError());
+                plugin.debug("Sending economy_missing message");
+                plugin.getMessageCatalog().send(player, "economy_missing");
+                playSound(player, plugin.getConfigManager().snapshot().teleportErrorSound());
                 return;
             }
 
             if (!economy.has(player, cost)) {
-                String message = plugin.getConfigManager().getTeleportationMessage("insufficient_funds")
-                        .replace("%cost%", plugin.formatCurrency(cost));
-                plugin.debug("Sending insufficient_funds message: " + message);
-                MessageUtils.send(player, message);
-                playSound(player, plugin.getConfigManager().getTeleportationSoundDenied());
+                plugin.debug("Sending insufficient_funds message");
+                plugin.getMessageCatalog().send(player, "insufficient_funds",
+                        MessageCatalog.Arg.of("cost", plugin.formatCurrency(cost)));
+                playSound(player, plugin.getConfigManager().snapshot().teleportDeniedSound());
                 return;
             }
 
             
             if (!economy.withdrawPlayer(player, cost).transactionSuccess()) {
-                String message = plugin.getConfigManager().getTeleportationMessage("insufficient_funds")
-                        .replace("%cost%", plugin.formatCurrency(cost));
-                plugin.debug("Sending insufficient_funds message (withdraw failed): " + message);
-                MessageUtils.send(player, message);
-                playSound(player, plugin.getConfigManager().getTeleportationSoundDenied());
+                plugin.debug("Sending insufficient_funds message (withdraw failed)");
+                plugin.getMessageCatalog().send(player, "insufficient_funds",
+                        MessageCatalog.Arg.of("cost", plugin.formatCurrency(cost)));
+                playSound(player, plugin.getConfigManager().snapshot().teleportDeniedSound());
                 return;
             }
 
             
-            String message = plugin.getConfigManager().getTeleportationMessage("charged")
-                    .replace("%cost%", plugin.formatCurrency(cost))
-                    .replace("%group%", cellGroup.getDisplayName());
-            plugin.debug("Sending charged message: " + message);
-            MessageUtils.send(player, message);
+            plugin.debug("Sending charged message");
+            plugin.getMessageCatalog().send(player, "charged",
+                    MessageCatalog.Arg.of("cost", plugin.formatCurrency(cost)),
+                    MessageCatalog.Arg.of("group", cellGroup.getDisplayName()));
         }
 
         
@@ -419,11 +460,10 @@ public final class TeleportNPCManager {
             targetCell.teleport(player, false);
 
             
-            String message = plugin.getConfigManager().getTeleportationMessage("teleported")
-                    .replace("%group%", cellGroup.getDisplayName());
-            plugin.debug("Sending teleported message: " + message);
-            MessageUtils.send(player, message);
-            playSound(player, plugin.getConfigManager().getTeleportationSoundSuccess());
+            plugin.debug("Sending teleported message");
+            plugin.getMessageCatalog().send(player, "teleported",
+                    MessageCatalog.Arg.of("group", cellGroup.getDisplayName()));
+            playSound(player, plugin.getConfigManager().snapshot().teleportSuccessSound());
 
             
             recordCooldown(player);
@@ -439,7 +479,7 @@ public final class TeleportNPCManager {
             } else {
                 MessageUtils.sendError(player, "Teleport failed!");
             }
-            playSound(player, plugin.getConfigManager().getTeleportationSoundError());
+            playSound(player, plugin.getConfigManager().snapshot().teleportErrorSound());
             plugin.getLogger().warning("Error teleporting " + player.getName() + " to cell " +
                     targetCell.getRegion().getId() + ": " + e.getMessage());
         }
@@ -501,17 +541,11 @@ public final class TeleportNPCManager {
     }
 
     
-    private void playSound(Player player, String soundName) {
+    private void playSound(Player player, ConfigManager.ConfiguredSound sound) {
         try {
-            Sound sound = Sound.valueOf(soundName);
-            player.playSound(player.getLocation(), sound, 1.0f, 1.0f);
-        } catch (IllegalArgumentException e) {
-            
-            try {
-                player.getWorld().playSound(player.getLocation(), soundName, 1.0f, 1.0f);
-            } catch (Exception ex) {
-                plugin.debug("Could not play sound: " + soundName);
-            }
+            sound.play(player, 1.0f, 1.0f);
+        } catch (Exception e) {
+            plugin.debug("Could not play sound: " + sound.name());
         }
     }
 
@@ -0,0 +1,178 @@
+package dev.lsdmc.edencells.managers;
+
+import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.models.CellGroup;
+import dev.lsdmc.edencells.models.CellGroupManager;
+import net.alex9849.arm.regions.Region;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+
+public final class VacancyIndex {
+
+    private final EdenCells plugin;
+
+
+    private volatile Map<String, Region> vacant = new ConcurrentHashMap<>();
+    private volatile Map<String, NavigableMap<String, Region>> byWorld = new ConcurrentHashMap<>();
+    private volatile Map<String, NavigableMap<String, Region>> byGroup = new ConcurrentHashMap<>();
+
+    public VacancyIndex(EdenCells plugin) {
+        this.plugin = plugin;
+    }
+
+
+    public synchronized void rebuild(Collection<RegionIndex.RegionState> states) {
+        Map<String, Region> newVacant = new ConcurrentHashMap<>();
+        Map<String, NavigableMap<String, Region>> newByWorld = new ConcurrentHashMap<>();
+
+        for (RegionIndex.RegionState state : states) {
+            if (state.sold()) {
+                continue;
+            }
+            newVacant.put(state.key(), state.region());
+            if (state.world() != null) {
+                newByWorld.computeIfAbsent(state.world(), w -> new ConcurrentSkipListMap<>()).put(state.key(), state.region());
+            }
+        }
+
+        this.vacant = newVacant;
+        this.byWorld = newByWorld;
+
+        CellGroupManager groupManager = plugin.getCellGroupManager();
+        if (groupManager != null) {
+            refreshGroups(groupManager.getAllGroups().values());
+        }
+    }
+
+
+    public synchronized void refreshGroups(Collection<CellGroup> groups) {
+        Map<String, NavigableMap<String, Region>> newByGroup = new ConcurrentHashMap<>();
+        Map<String, Region> current = vacant;
+
+        for (CellGroup group : groups) {
+            NavigableMap<String, Region> groupMap = new ConcurrentSkipListMap<>();
+            for (String regionId : group.getRegions()) {
+                String key = RegionIndex.normalize(regionId);
+                Region region = current.get(key);
+                if (region != null) {
+                    groupMap.put(key, region);
+                }
+            }
+            newByGroup.put(group.getName(), groupMap);
+        }
+
+        this.byGroup = newByGroup;
+    }
+
+
+    public synchronized void refreshGroupRegions(CellGroup group, Collection<String> regionIds) {
+        NavigableMap<String, Region> groupMap = byGroup.computeIfAbsent(group.getName(), g -> new ConcurrentSkipListMap<>());
+        for (String regionId : regionIds) {
+            String key = RegionIndex.normalize(regionId);
+            Region region = vacant.get(key);
+            if (region != null && group.containsRegion(regionId)) {
+                groupMap.put(key, region);
+            } else {
+                groupMap.remove(key);
+            }
+        }
+    }
+
+
+    public synchronized void removeGroup(String groupName) {
+        byGroup.remove(groupName);
+    }
+
+
+    public synchronized void update(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+
+        String regionId = region.getRegion().getId();
+        String key = RegionIndex.normalize(regionId);
+        World world = region.getRegionworld();
+        boolean available = !region.isSold();
+
+        if (available) {
+            vacant.put(key, region);
+            if (world != null) {
+                byWorld.computeIfAbsent(world.getName(), w -> new ConcurrentSkipListMap<>()).put(key, region);
+            }
+        } else {
+            vacant.remove(key);
+            if (world != null) {
+                NavigableMap<String, Region> worldMap = byWorld.get(world.getName());
+                if (worldMap != null) {
+                    worldMap.remove(key);
+                }
+            }
+        }
+
+        CellGroupManager groupManager = plugin.getCellGroupManager();
+        if (groupManager == null) {
+            return;
+        }
+        for (CellGroup group : groupManager.getGroupsByRegion(regionId)) {
+            NavigableMap<String, Region> groupMap = byGroup.computeIfAbsent(group.getName(), g -> new ConcurrentSkipListMap<>());
+            if (available) {
+                groupMap.put(key, region);
+            } else {
+                groupMap.remove(key);
+            }
+        }
+    }
+
+
+    public synchronized void remove(Region region) {
+        if (region == null || region.getRegion() == null) {
+            return;
+        }
+
+        String key = RegionIndex.normalize(region.getRegion().getId());
+        vacant.remove(key);
+        for (NavigableMap<String, Region> worldMap : byWorld.values()) {
+            worldMap.remove(key);
+        }
+        for (NavigableMap<String, Region> groupMap : byGroup.values()) {
+            groupMap.remove(key);
+        }
+    }
+
+
+    public List<Region> getAvailable(World world) {
+        if (world == null) {
+            return List.of();
+        }
+        NavigableMap<String, Region> worldMap = byWorld.get(world.getName());
+        return worldMap != null ? List.copyOf(worldMap.values()) : List.of();
+    }
+
+
+    public int countAvailable(World world) {
+        if (world == null) {
+            return 0;
+        }
+        NavigableMap<String, Region> worldMap = byWorld.get(world.getName());
+        return worldMap != null ? worldMap.size() : 0;
+    }
+
+    public int countAvailable(CellGroup group) {
+        if (group == null) {
+            return 0;
+        }
+        NavigableMap<String, Region> groupMap = byGroup.get(group.getName());
+        return groupMap != null ? groupMap.size() : 0;
+    }
+
+    public boolean isAvailable(String regionId) {
+        return regionId != null && vacant.containsKey(RegionIndex.normalize(regionId));
+    }
+}
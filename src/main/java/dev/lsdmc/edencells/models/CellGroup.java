@@ -1,7 +1,10 @@
 package dev.lsdmc.edencells.models;
 
+import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,11 +31,17 @@ public final class CellGroup {
     
     private volatile int cachedSize = -1;
     private volatile long lastModified = System.currentTimeMillis();
+    private volatile ChangeListener changeListener;
     
     
     private static final int DEFAULT_CELL_LIMIT = -1; 
     private static final double DEFAULT_TELEPORT_COST = -1; 
     
+    @FunctionalInterface
+    interface ChangeListener {
+        void changed(CellGroup group, Collection<String> regions);
+    }
+    
     
     public CellGroup(String name) {
         this(name, name);
@@ -100,10 +109,21 @@ public final class CellGroup {
     
     
     private static boolean validateRegionId(String regionId) {
-        return regionId != null && 
-               !regionId.trim().isEmpty() && 
-               regionId.trim().length() <= MAX_NAME_LENGTH &&
-               VALID_NAME_PATTERN.matcher(regionId.trim()).matches();
+        if (regionId == null) {
+            return false;
+        }
+        
+        String trimmed = regionId.trim();
+        if (trimmed.isEmpty() || trimmed.length() > MAX_NAME_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9') && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
     }
     
     
@@ -113,6 +133,18 @@ public final class CellGroup {
     }
     
     
+    void setChangeListener(ChangeListener listener) {
+        this.changeListener = listener;
+    }
+    
+    private void notifyChanged(Collection<String> changedRegions) {
+        ChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.changed(this, changedRegions);
+        }
+    }
+    
+    
     public String getName() {
         return name;
     }
@@ -143,19 +175,51 @@ public final class CellGroup {
         boolean added = regions.add(trimmed);
         if (added) {
             invalidateCache();
+            notifyChanged(List.of(trimmed));
         }
         return added;
     }
     
     
+    public int addRegions(Collection<String> regionIds) {
+        if (regionIds == null || regionIds.isEmpty()) {
+            return 0;
+        }
+        
+        List<String> added = new ArrayList<>();
+        synchronized (regions) {
+            for (String regionId : regionIds) {
+                if (!validateRegionId(regionId)) {
+                    continue;
+                }
+                if (regions.size() >= MAX_REGIONS) {
+                    break;
+                }
+                String trimmed = regionId.trim();
+                if (regions.add(trimmed)) {
+                    added.add(trimmed);
+                }
+            }
+        }
+        
+        if (!added.isEmpty()) {
+            invalidateCache();
+            notifyChanged(added);
+        }
+        return added.size();
+    }
+    
+    
     public boolean removeRegion(String regionId) {
         if (regionId == null) {
             return false;
         }
         
-        boolean removed = regions.remove(regionId.trim());
+        String trimmed = regionId.trim();
+        boolean removed = regions.remove(trimmed);
         if (removed) {
             invalidateCache();
+            notifyChanged(List.of(trimmed));
         }
         return removed;
     }
@@ -228,6 +292,7 @@ public final class CellGroup {
     public void setPriority(int priority) {
         options.put("priority", priority);
         lastModified = System.currentTimeMillis();
+        notifyChanged(List.of());
     }
 
     
@@ -303,6 +368,9 @@ public final class CellGroup {
             options.put(trimmedKey, value);
         }
         lastModified = System.currentTimeMillis();
+        if ("priority".equals(trimmedKey)) {
+            notifyChanged(List.of());
+        }
     }
     
     
@@ -317,8 +385,13 @@ public final class CellGroup {
     
     
     public void clearRegions() {
-        regions.clear();
+        List<String> cleared;
+        synchronized (regions) {
+            cleared = new ArrayList<>(regions);
+            regions.clear();
+        }
         invalidateCache();
+        notifyChanged(cleared);
     }
     
     @Override
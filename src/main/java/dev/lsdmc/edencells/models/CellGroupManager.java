@@ -1,6 +1,8 @@
 package dev.lsdmc.edencells.models;
 
 import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.utils.BinarySnapshot;
+import dev.lsdmc.edencells.utils.PermissionManager;
 import dev.lsdmc.edencells.utils.PermissionRegistry;
 import net.alex9849.arm.AdvancedRegionMarket;
 import org.bukkit.configuration.ConfigurationSection;
@@ -10,6 +12,12 @@ import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -18,6 +26,9 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 
@@ -25,11 +36,30 @@ public final class CellGroupManager {
     
     private final EdenCells plugin;
     private final ConcurrentMap<String, CellGroup> groups = new ConcurrentHashMap<>();
+    
+    
+    private volatile RegionGroups regionGroups = new RegionGroups(Map.of(), Map.of());
+    private volatile boolean loading;
     private int globalCellLimit = -1; 
     
     private File groupsFile;
+    private File binaryFile;
     private FileConfiguration groupsConfig;
     
+    
+    private final AtomicBoolean saveRequested = new AtomicBoolean();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final AtomicLong saveVersion = new AtomicLong();
+    private final Object writeLock = new Object();
+    private long writtenVersion = 0L;
+    
+    private record GroupData(String name, String displayName, List<String> regions, int cellLimit,
+                             double teleportCost, int priority, String teleportAccess, String permission) {}
+    
+    private record GroupSnapshot(long version, int globalCellLimit, List<GroupData> groups) {}
+    
+    private record RegionGroups(Map<String, List<CellGroup>> byRegion, Map<String, List<CellGroup>> overlapping) {}
+    
     public CellGroupManager(EdenCells plugin) {
         this.plugin = plugin;
         initializeGroupsFile();
@@ -39,14 +69,13 @@ public final class CellGroupManager {
     
     private void initializeGroupsFile() {
         groupsFile = new File(plugin.getDataFolder(), "cell-groups.yml");
+        binaryFile = new File(plugin.getDataFolder(), "cell-groups.bin");
         
         
         if (!groupsFile.exists()) {
             plugin.saveResource("cell-groups.yml", false);
         }
         
-        groupsConfig = YamlConfiguration.loadConfiguration(groupsFile);
-        
         
         migrateFromMainConfig();
     }
@@ -57,6 +86,7 @@ public final class CellGroupManager {
         
         if (mainConfigGroups != null && !mainConfigGroups.getKeys(false).isEmpty()) {
             plugin.getLogger().info("Migrating cell groups from config.yml to cell-groups.yml...");
+            groupsConfig = YamlConfiguration.loadConfiguration(groupsFile);
             
             
             groupsConfig.set("groups", mainConfigGroups);
@@ -69,7 +99,12 @@ public final class CellGroupManager {
             groupsConfig.set("version", 1);
             
             
-            saveGroups();
+            try {
+                groupsConfig.save(groupsFile);
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to save migrated cell groups: " + e.getMessage());
+                return;
+            }
             
             
             plugin.getConfig().set("cell-groups", null);
@@ -82,6 +117,18 @@ public final class CellGroupManager {
     
       
     public void loadGroups() {
+        loading = true;
+        try {
+            readGroups();
+        } finally {
+            loading = false;
+            rebuildRegionIndex();
+        }
+        refreshGroupIndexes();
+    }
+    
+    
+    private void readGroups() {
         groups.clear();
         
         try {
@@ -89,6 +136,11 @@ public final class CellGroupManager {
         } catch (Exception ignored) {}
         
         try {
+            if (BinarySnapshot.isFresh(binaryFile, groupsFile) && loadBinary()) {
+                plugin.getLogger().info("Loaded " + groups.size() + " cell groups from cell-groups.bin");
+                return;
+            }
+            
             
             groupsConfig = YamlConfiguration.loadConfiguration(groupsFile);
             
@@ -135,17 +187,11 @@ public final class CellGroupManager {
 
                         
                         if (groupSection.contains("permission")) {
-                            String perm = groupSection.getString("permission");
-                            options.put("permission", perm);
-                            
-                            if (perm != null && !perm.isBlank()) {
-                                PermissionRegistry.register(perm, "Access to cell group '" + groupName + "'");
-                            }
+                            options.put("permission", groupSection.getString("permission"));
                         }
                         
                         
-                        CellGroup group = new CellGroup(groupName, displayName, regions, options);
-                        groups.put(groupName, group);
+                        addLoadedGroup(groupName, displayName, regions, options);
                         
                     } catch (Exception e) {
                         plugin.getLogger().warning("Failed to load cell group '" + groupName + "': " + e.getMessage());
@@ -154,6 +200,7 @@ public final class CellGroupManager {
             }
             
             plugin.getLogger().info("Loaded " + groups.size() + " cell groups from cell-groups.yml");
+            writeBinary(snapshot());
             
         } catch (Exception e) {
             plugin.getLogger().severe("Failed to load cell groups: " + e.getMessage());
@@ -162,55 +209,293 @@ public final class CellGroupManager {
     }
     
     
-    public synchronized void saveGroups() {
+    private void addLoadedGroup(String groupName, String displayName, Set<String> regions, ConcurrentMap<String, Object> options) {
+        Object perm = options.get("permission");
+        if (perm instanceof String s && !s.isBlank()) {
+            PermissionRegistry.register(s, "Access to cell group '" + groupName + "'");
+        }
+        
+        CellGroup group = new CellGroup(groupName, displayName, regions, options);
+        groups.put(groupName, group);
+        track(group);
+    }
+    
+    
+    private boolean loadBinary() {
         try {
-            
-            groupsConfig.set("limits.global", globalCellLimit);
-            
-            
-            groupsConfig.set("groups", null);
-            
-            
-            for (Map.Entry<String, CellGroup> entry : groups.entrySet()) {
-                String groupName = entry.getKey();
-                CellGroup group = entry.getValue();
-                
-                String path = "groups." + groupName;
-                groupsConfig.set(path + ".display-name", group.getDisplayName());
+            BinarySnapshot.Reader reader = BinarySnapshot.Reader.open(binaryFile, "cell-groups");
+            int limit = reader.readSignedVarInt();
+            int count = reader.readVarInt();
+            for (int i = 0; i < count; i++) {
+                String groupName = reader.readString();
+                String displayName = reader.readString();
+                int cellLimit = reader.readSignedVarInt();
+                double teleportCost = reader.readDouble();
+                int priority = reader.readSignedVarInt();
+                String teleportAccess = reader.readString();
+                String permission = reader.readString();
                 
+                int regionCount = reader.readVarInt();
+                Set<String> regions = new LinkedHashSet<>(Math.max(16, regionCount * 2));
+                for (int r = 0; r < regionCount; r++) {
+                    regions.add(reader.readString());
+                }
                 
-                groupsConfig.set(path + ".regions", group.getRegions().stream().collect(Collectors.toList()));
+                ConcurrentMap<String, Object> options = new ConcurrentHashMap<>();
+                if (cellLimit != -1) {
+                    options.put("cellLimit", cellLimit);
+                }
+                if (teleportCost != -1) {
+                    options.put("teleportCost", teleportCost);
+                }
+                if (priority != 0) {
+                    options.put("priority", priority);
+                }
+                if (teleportAccess != null && !"all".equalsIgnoreCase(teleportAccess)) {
+                    options.put("teleportAccess", teleportAccess);
+                }
+                if (permission != null) {
+                    options.put("permission", permission);
+                }
                 
+                try {
+                    addLoadedGroup(groupName, displayName != null ? displayName : groupName, regions, options);
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Failed to load cell group '" + groupName + "': " + e.getMessage());
+                }
+            }
+            globalCellLimit = limit;
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to load cell-groups.bin, falling back to cell-groups.yml: " + e.getMessage());
+            groups.clear();
+            return false;
+        }
+    }
+    
+    
+    private void writeBinary(GroupSnapshot snapshot) {
+        BinarySnapshot.Writer writer = new BinarySnapshot.Writer("cell-groups");
+        writer.writeSignedVarInt(snapshot.globalCellLimit()).writeVarInt(snapshot.groups().size());
+        for (GroupData group : snapshot.groups()) {
+            writer.writeString(group.name())
+                .writeString(group.displayName())
+                .writeSignedVarInt(group.cellLimit())
+                .writeDouble(group.teleportCost())
+                .writeSignedVarInt(group.priority())
+                .writeString(group.teleportAccess())
+                .writeString(group.permission())
+                .writeVarInt(group.regions().size());
+            for (String region : group.regions()) {
+                writer.writeString(region);
+            }
+        }
+        
+        try {
+            writer.save(binaryFile, groupsFile);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write cell-groups.bin: " + e.getMessage());
+        }
+    }
+    
+    
+    public void saveGroups() {
+        ExecutorService executor = plugin.getAsyncExecutor();
+        if (executor == null || executor.isShutdown() || !plugin.getConfigManager().useAsyncSaves()) {
+            writeSnapshot(snapshot());
+            return;
+        }
+        
+        
+        saveRequested.set(true);
+        if (writeScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drainSaves);
+        }
+    }
+    
+    
+    public void disable() {
+        writeSnapshot(snapshot());
+    }
+    
+    
+    private GroupSnapshot snapshot() {
+        List<GroupData> data = new ArrayList<>(groups.size());
+        for (Map.Entry<String, CellGroup> entry : groups.entrySet()) {
+            CellGroup group = entry.getValue();
+            data.add(new GroupData(
+                entry.getKey(),
+                group.getDisplayName(),
+                List.copyOf(group.getRegions()),
+                group.getCellLimit(),
+                group.getTeleportCost(),
+                group.getPriority(),
+                group.getTeleportAccess(),
+                group.getRequiredPermission()
+            ));
+        }
+        return new GroupSnapshot(saveVersion.incrementAndGet(), globalCellLimit, List.copyOf(data));
+    }
+    
+    
+    private void drainSaves() {
+        try {
+            while (saveRequested.getAndSet(false)) {
+                writeSnapshot(snapshot());
+            }
+        } finally {
+            writeScheduled.set(false);
+            ExecutorService executor = plugin.getAsyncExecutor();
+            if (saveRequested.get() && executor != null && !executor.isShutdown()
+                    && writeScheduled.compareAndSet(false, true)) {
+                executor.execute(this::drainSaves);
+            }
+        }
+    }
+    
+    
+    private void writeSnapshot(GroupSnapshot snapshot) {
+        synchronized (writeLock) {
+            if (snapshot.version() <= writtenVersion) {
+                return;
+            }
+            
+            YamlConfiguration config = new YamlConfiguration();
+            for (GroupData group : snapshot.groups()) {
+                String path = "groups." + group.name();
+                config.set(path + ".display-name", group.displayName());
+                config.set(path + ".regions", group.regions());
                 
-                if (group.getCellLimit() != -1) {
-                    groupsConfig.set(path + ".cell-limit", group.getCellLimit());
+                if (group.cellLimit() != -1) {
+                    config.set(path + ".cell-limit", group.cellLimit());
                 }
-                if (group.getTeleportCost() != -1) {
-                    groupsConfig.set(path + ".teleport-cost", group.getTeleportCost());
+                if (group.teleportCost() != -1) {
+                    config.set(path + ".teleport-cost", group.teleportCost());
                 }
-                if (group.getPriority() != 0) {
-                    groupsConfig.set(path + ".priority", group.getPriority());
+                if (group.priority() != 0) {
+                    config.set(path + ".priority", group.priority());
                 }
-                if (!"all".equalsIgnoreCase(group.getTeleportAccess())) {
-                    groupsConfig.set(path + ".teleport-access", group.getTeleportAccess());
+                if (!"all".equalsIgnoreCase(group.teleportAccess())) {
+                    config.set(path + ".teleport-access", group.teleportAccess());
                 }
-
-                if (group.getRequiredPermission() != null) {
-                    groupsConfig.set(path + ".permission", group.getRequiredPermission());
+                if (group.permission() != null) {
+                    config.set(path + ".permission", group.permission());
                 }
             }
-            
-            
-            groupsConfig.set("version", 1);
-            
-            
-            groupsConfig.save(groupsFile);
-            
-            plugin.debug("Saved " + groups.size() + " cell groups to cell-groups.yml");
-            
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save cell groups: " + e.getMessage());
-            e.printStackTrace();
+            config.set("limits.global", snapshot.globalCellLimit());
+            config.set("version", 1);
+            
+            
+            File temp = new File(groupsFile.getParentFile(), groupsFile.getName() + ".tmp");
+            try {
+                config.save(temp);
+                try {
+                    Files.move(temp.toPath(), groupsFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp.toPath(), groupsFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                writtenVersion = snapshot.version();
+                writeBinary(snapshot);
+                plugin.debug("Saved " + snapshot.groups().size() + " cell groups to cell-groups.yml");
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to save cell groups: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+    
+    
+    private void track(CellGroup group) {
+        group.setChangeListener(this::onGroupChanged);
+        onGroupChanged(group, group.getRegions());
+    }
+    
+    private void onGroupChanged(CellGroup group, Collection<String> regions) {
+        if (loading) {
+            return;
+        }
+        rebuildRegionIndex();
+        if (regions.isEmpty()) {
+            return;
+        }
+        if (plugin.getVacancyIndex() != null) {
+            plugin.getVacancyIndex().refreshGroupRegions(group, regions);
+        }
+        if (plugin.getOwnerIndex() != null) {
+            plugin.getOwnerIndex().refreshRegionGroups(regions);
+        }
+    }
+    
+    private void onGroupRemoved(CellGroup group) {
+        if (loading) {
+            return;
+        }
+        rebuildRegionIndex();
+        if (plugin.getVacancyIndex() != null) {
+            plugin.getVacancyIndex().removeGroup(group.getName());
+        }
+        if (plugin.getOwnerIndex() != null) {
+            plugin.getOwnerIndex().refreshRegionGroups(group.getRegions());
+        }
+    }
+    
+    
+    private List<CellGroup> lookupGroups(String regionId) {
+        return regionGroups.byRegion().getOrDefault(regionId, List.of());
+    }
+    
+    
+    private synchronized void rebuildRegionIndex() {
+        Map<String, List<CellGroup>> building = new HashMap<>();
+        for (CellGroup group : groups.values()) {
+            for (String regionId : group.getRegions()) {
+                building.computeIfAbsent(regionId, r -> new ArrayList<>()).add(group);
+            }
+        }
+        
+        Map<String, List<CellGroup>> index = new HashMap<>(building.size() * 2);
+        Map<String, Set<CellGroup>> adjacency = new HashMap<>();
+        for (Map.Entry<String, List<CellGroup>> entry : building.entrySet()) {
+            List<CellGroup> sorted = entry.getValue();
+            sorted.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+            index.put(entry.getKey(), List.copyOf(sorted));
+            
+            if (sorted.size() > 1) {
+                for (CellGroup group : sorted) {
+                    Set<CellGroup> neighbours = adjacency.computeIfAbsent(group.getName(), g -> new LinkedHashSet<>());
+                    for (CellGroup other : sorted) {
+                        if (other != group) {
+                            neighbours.add(other);
+                        }
+                    }
+                }
+            }
+        }
+        
+        Map<String, List<CellGroup>> overlaps = new HashMap<>(adjacency.size() * 2);
+        for (Map.Entry<String, Set<CellGroup>> entry : adjacency.entrySet()) {
+            List<CellGroup> sorted = new ArrayList<>(entry.getValue());
+            sorted.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+            overlaps.put(entry.getKey(), List.copyOf(sorted));
+        }
+        
+        this.regionGroups = new RegionGroups(Collections.unmodifiableMap(index), Collections.unmodifiableMap(overlaps));
+    }
+    
+    
+    public List<CellGroup> getOverlappingGroups(CellGroup group) {
+        if (group == null) return List.of();
+        return regionGroups.overlapping().getOrDefault(group.getName(), List.of());
+    }
+    
+    
+    private void refreshGroupIndexes() {
+        if (plugin.getVacancyIndex() != null) {
+            plugin.getVacancyIndex().refreshGroups(groups.values());
+        }
+        if (plugin.getOwnerIndex() != null) {
+            plugin.getOwnerIndex().recountGroups(groups.values());
         }
     }
     
@@ -228,35 +513,14 @@ public final class CellGroupManager {
     public CellGroup getGroupByRegion(String regionId) {
         if (regionId == null) return null;
         
-        String trimmed = regionId.trim();
-        
-        CellGroup best = null;
-        int bestPriority = Integer.MIN_VALUE;
-        for (CellGroup group : groups.values()) {
-            if (group.containsRegion(trimmed)) {
-                int prio = group.getPriority();
-                if (best == null || prio > bestPriority) {
-                    best = group;
-                    bestPriority = prio;
-                }
-            }
-        }
-        return best;
+        List<CellGroup> matches = lookupGroups(regionId.trim());
+        return matches.isEmpty() ? null : matches.get(0);
     }
 
     
-    public java.util.List<CellGroup> getGroupsByRegion(String regionId) {
-        if (regionId == null) return java.util.List.of();
-        String trimmed = regionId.trim();
-        java.util.List<CellGroup> result = new java.util.ArrayList<>();
-        for (CellGroup group : groups.values()) {
-            if (group.containsRegion(trimmed)) {
-                result.add(group);
-            }
-        }
-        
-        result.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
-        return result;
+    public List<CellGroup> getGroupsByRegion(String regionId) {
+        if (regionId == null) return List.of();
+        return lookupGroups(regionId.trim());
     }
     
     
@@ -287,6 +551,8 @@ public final class CellGroupManager {
                 updated.setRequiredPermission(perm);
             }
             groups.put(id, updated);
+            existing.setChangeListener(null);
+            track(updated);
             return true;
         } catch (IllegalArgumentException e) {
             plugin.getLogger().warning("Failed to update display name for group '" + id + "': " + e.getMessage());
@@ -308,6 +574,7 @@ public final class CellGroupManager {
         try {
             CellGroup group = new CellGroup(trimmed);
             groups.put(trimmed, group);
+            track(group);
             return group;
         } catch (IllegalArgumentException e) {
             throw e; 
@@ -327,6 +594,10 @@ public final class CellGroupManager {
             }
         }
         CellGroup removed = groups.remove(trimmed);
+        if (removed != null) {
+            removed.setChangeListener(null);
+            onGroupRemoved(removed);
+        }
         return removed != null;
     }
     
@@ -382,6 +653,10 @@ public final class CellGroupManager {
             return 0;
         }
         
+        if (plugin.getOwnerIndex() != null) {
+            return plugin.getOwnerIndex().getCellCount(playerUuid, group);
+        }
+        
         AdvancedRegionMarket arm = AdvancedRegionMarket.getInstance();
         if (arm == null) return 0;
         
@@ -395,6 +670,10 @@ public final class CellGroupManager {
     public int getPlayerTotalCellCount(UUID playerUuid) {
         if (playerUuid == null) return 0;
         
+        if (plugin.getOwnerIndex() != null) {
+            return plugin.getOwnerIndex().getCellCount(playerUuid);
+        }
+        
         AdvancedRegionMarket arm = AdvancedRegionMarket.getInstance();
         if (arm == null) return 0;
         
@@ -408,10 +687,7 @@ public final class CellGroupManager {
         }
         
         return groups.values().stream()
-            .filter(group -> {
-                String permission = group.getRequiredPermission();
-                return permission == null || player.hasPermission(permission);
-            })
+            .filter(group -> PermissionManager.hasGroupAccess(player, group))
             .collect(Collectors.toList());
     }
     
@@ -472,6 +748,9 @@ public final class CellGroupManager {
     
     
     public FileConfiguration getGroupsConfig() {
+        if (groupsConfig == null) {
+            groupsConfig = YamlConfiguration.loadConfiguration(groupsFile);
+        }
         return groupsConfig;
     }
     
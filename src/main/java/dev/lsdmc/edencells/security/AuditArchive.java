@@ -0,0 +1,190 @@
+package dev.lsdmc.edencells.security;
+
+import dev.lsdmc.edencells.EdenCells;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+
+public final class AuditArchive {
+
+    public static final String SEGMENT_SUFFIX = ".log.gz";
+    private static final String PENDING_SUFFIX = ".log.pending";
+    private static final String HEADER_PREFIX = "# audit-segment ";
+    private static final DateTimeFormatter SEGMENT_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final EdenCells plugin;
+
+    public AuditArchive(EdenCells plugin) {
+        this.plugin = plugin;
+    }
+
+
+    public void seal(File active) {
+        if (!active.isFile() || active.length() == 0) {
+            return;
+        }
+
+        File pending = uniqueSibling(active, PENDING_SUFFIX);
+        try {
+            Files.move(active.toPath(), pending.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to rotate audit log: " + e.getMessage());
+            return;
+        }
+
+        ExecutorService executor = plugin.getAsyncExecutor();
+        if (executor != null && !executor.isShutdown()) {
+            executor.execute(() -> compress(pending));
+        }
+    }
+
+
+    public void maintain(File active, int retentionDays) {
+        File dir = active.getParentFile();
+        String base = baseName(active);
+        File[] leftovers = dir != null ? dir.listFiles((d, name) -> name.startsWith(base + "-") && name.endsWith(PENDING_SUFFIX)) : null;
+        if (leftovers != null) {
+            for (File pending : leftovers) {
+                compress(pending);
+            }
+        }
+
+        if (retentionDays > 0) {
+            long cutoff = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+            int removed = 0;
+            for (File segment : segments(active)) {
+                if (segment.lastModified() < cutoff && segment.delete()) {
+                    new File(segment.getParentFile(), segment.getName() + AuditIndex.INDEX_SUFFIX).delete();
+                    removed++;
+                }
+            }
+            if (removed > 0) {
+                plugin.debug("Pruned " + removed + " audit segments older than " + retentionDays + " days");
+            }
+        }
+    }
+
+
+    public List<File> segments(File active) {
+        File dir = active.getParentFile();
+        String base = baseName(active);
+        File[] files = dir != null ? dir.listFiles((d, name) -> name.startsWith(base + "-") && name.endsWith(SEGMENT_SUFFIX)) : null;
+        if (files == null) {
+            return List.of();
+        }
+        List<File> result = new ArrayList<>(Arrays.asList(files));
+        result.sort(Comparator.comparing(File::getName));
+        return result;
+    }
+
+
+    private synchronized void compress(File pending) {
+        if (!pending.isFile()) {
+            return;
+        }
+
+        String first = null;
+        String last = null;
+        int entries = 0;
+        AuditIndex index = AuditIndex.forEntries((int) Math.min(Integer.MAX_VALUE, pending.length() / 80));
+        try (BufferedReader reader = Files.newBufferedReader(pending.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String stamp = timestampOf(line);
+                if (stamp != null) {
+                    if (first == null) {
+                        first = stamp;
+                    }
+                    last = stamp;
+                    entries++;
+                    index.add(line);
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to read audit segment " + pending.getName() + ": " + e.getMessage());
+            return;
+        }
+
+        String name = pending.getName();
+        File segment = new File(pending.getParentFile(), name.substring(0, name.length() - PENDING_SUFFIX.length()) + SEGMENT_SUFFIX);
+        File temp = new File(segment.getParentFile(), segment.getName() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp.toPath())), StandardCharsets.UTF_8));
+             BufferedReader reader = Files.newBufferedReader(pending.toPath(), StandardCharsets.UTF_8)) {
+            writer.write(HEADER_PREFIX + "from=" + stampOrNone(first) + " to=" + stampOrNone(last) + " entries=" + entries);
+            writer.newLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to compress audit segment " + pending.getName() + ": " + e.getMessage());
+            temp.delete();
+            return;
+        }
+
+        File indexFile = new File(segment.getParentFile(), segment.getName() + AuditIndex.INDEX_SUFFIX);
+        File indexTemp = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+        try {
+            Files.move(temp.toPath(), segment.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            index.write(indexTemp);
+            try {
+                Files.move(indexTemp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(indexTemp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.deleteIfExists(pending.toPath());
+            plugin.debug("Archived audit segment " + segment.getName() + " (" + entries + " entries)");
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to finalize audit segment " + segment.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private static String timestampOf(String line) {
+        if (line.length() < 21 || line.charAt(0) != '[' || line.charAt(20) != ']') {
+            return null;
+        }
+        return line.substring(1, 20);
+    }
+
+    private static String stampOrNone(String stamp) {
+        return stamp != null ? stamp.replace(' ', 'T') : "none";
+    }
+
+    private static File uniqueSibling(File active, String suffix) {
+        File dir = active.getParentFile();
+        String stem = baseName(active) + "-" + LocalDateTime.now().format(SEGMENT_STAMP);
+        for (int i = 0; ; i++) {
+            String candidate = i == 0 ? stem : stem + "-" + i;
+            File pending = new File(dir, candidate + suffix);
+            if (!pending.exists() && !new File(dir, candidate + SEGMENT_SUFFIX).exists()) {
+                return pending;
+            }
+        }
+    }
+
+    private static String baseName(File active) {
+        String name = active.getName();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
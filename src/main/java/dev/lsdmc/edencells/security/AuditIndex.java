@@ -0,0 +1,166 @@
+package dev.lsdmc.edencells.security;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+
+public final class AuditIndex {
+
+    public static final String INDEX_SUFFIX = ".idx";
+    private static final int MAGIC = 0x45434149;
+    private static final int HASHES = 4;
+    private static final int BITS_PER_KEY = 10;
+    private static final DateTimeFormatter LINE_STAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private long from = Long.MAX_VALUE;
+    private long to = Long.MIN_VALUE;
+    private int entries;
+    private final long[] bits;
+
+    private AuditIndex(long[] bits) {
+        this.bits = bits;
+    }
+
+
+    public static AuditIndex forEntries(int expectedEntries) {
+        long bitCount = Math.max(1024L, (long) Math.max(1, expectedEntries) * 3 * BITS_PER_KEY);
+        return new AuditIndex(new long[(int) Math.min(Integer.MAX_VALUE, (bitCount + 63) / 64)]);
+    }
+
+
+    public boolean add(String line) {
+        ParsedLine parsed = ParsedLine.parse(line);
+        if (parsed == null) {
+            return false;
+        }
+        from = Math.min(from, parsed.timestamp());
+        to = Math.max(to, parsed.timestamp());
+        entries++;
+        put(parsed.player());
+        put(parsed.action());
+        put(parsed.target());
+        return true;
+    }
+
+    public boolean mightContain(String term) {
+        long hash = hash(term.toLowerCase(Locale.ROOT));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long size = (long) bits.length * 64;
+        for (int i = 1; i <= HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, size);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean overlaps(long since, long until) {
+        return entries > 0 && to >= since && from <= until;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+
+    public void write(File target) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(target.toPath()))) {
+            out.writeInt(MAGIC);
+            out.writeLong(from);
+            out.writeLong(to);
+            out.writeInt(entries);
+            out.writeInt(bits.length);
+            for (long word : bits) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    public static AuditIndex read(File source) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(source.toPath()))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an audit index: " + source.getName());
+            }
+            long from = in.readLong();
+            long to = in.readLong();
+            int entries = in.readInt();
+            long[] bits = new long[in.readInt()];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = in.readLong();
+            }
+            AuditIndex index = new AuditIndex(bits);
+            index.from = from;
+            index.to = to;
+            index.entries = entries;
+            return index;
+        }
+    }
+
+    private void put(String key) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        long hash = hash(key.toLowerCase(Locale.ROOT));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long size = (long) bits.length * 64;
+        for (int i = 1; i <= HASHES; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, size);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+
+    public record ParsedLine(long timestamp, String player, String action, String target) {
+
+        public static ParsedLine parse(String line) {
+            if (line == null || line.length() < 21 || line.charAt(0) != '[' || line.charAt(20) != ']') {
+                return null;
+            }
+            long timestamp;
+            try {
+                timestamp = LocalDateTime.parse(line.substring(1, 20), LINE_STAMP)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+            return new ParsedLine(timestamp, field(line, "Player: "), field(line, "Action: "), field(line, "Target: "));
+        }
+
+        public boolean matches(String term) {
+            return term.equalsIgnoreCase(player) || term.equalsIgnoreCase(action) || term.equalsIgnoreCase(target);
+        }
+
+        private static String field(String line, String label) {
+            int start = line.indexOf(label);
+            if (start < 0) {
+                return null;
+            }
+            start += label.length();
+            int end = line.indexOf(" | ", start);
+            return end < 0 ? line.substring(start) : line.substring(start, end);
+        }
+    }
+}
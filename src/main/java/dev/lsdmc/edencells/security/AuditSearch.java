@@ -0,0 +1,117 @@
+package dev.lsdmc.edencells.security;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+
+public final class AuditSearch {
+
+    public static final int MAX_RESULTS = 1000;
+
+    private AuditSearch() {}
+
+    public record Result(List<String> lines, int segmentsScanned, int segmentsSkipped, boolean truncated) {}
+
+
+    public static Result run(AuditArchive archive, File active, String term, long since, long until) throws IOException {
+        List<String> lines = new ArrayList<>();
+        int scanned = 0;
+        int skipped = 0;
+
+        if (active.isFile() && active.length() > 0) {
+            scanned++;
+            Deque<String> matches = new ArrayDeque<>();
+            scanMapped(active, term, since, until, matches, MAX_RESULTS);
+            drainNewestFirst(matches, lines);
+        }
+
+        List<File> segments = archive.segments(active);
+        for (int i = segments.size() - 1; i >= 0 && lines.size() < MAX_RESULTS; i--) {
+            File segment = segments.get(i);
+            AuditIndex index = readIndex(segment);
+            if (index != null && (!index.overlaps(since, until) || !index.mightContain(term))) {
+                skipped++;
+                continue;
+            }
+            scanned++;
+            Deque<String> matches = new ArrayDeque<>();
+            int limit = MAX_RESULTS - lines.size();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(segment.toPath())), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    collect(line, term, since, until, matches, limit);
+                }
+            }
+            drainNewestFirst(matches, lines);
+        }
+
+        return new Result(lines, scanned, skipped, lines.size() >= MAX_RESULTS);
+    }
+
+
+    private static void scanMapped(File active, String term, long since, long until, Deque<String> matches, int limit) throws IOException {
+        try (FileChannel channel = FileChannel.open(active.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0 || size > Integer.MAX_VALUE) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            byte[] scratch = new byte[512];
+            int start = 0;
+            for (int i = 0; i < size; i++) {
+                if (buffer.get(i) != '\n') {
+                    continue;
+                }
+                int end = i > start && buffer.get(i - 1) == '\r' ? i - 1 : i;
+                int length = end - start;
+                if (length > scratch.length) {
+                    scratch = new byte[length];
+                }
+                buffer.get(start, scratch, 0, length);
+                collect(new String(scratch, 0, length, StandardCharsets.UTF_8), term, since, until, matches, limit);
+                start = i + 1;
+            }
+        }
+    }
+
+    private static void collect(String line, String term, long since, long until, Deque<String> matches, int limit) {
+        AuditIndex.ParsedLine parsed = AuditIndex.ParsedLine.parse(line);
+        if (parsed != null && parsed.timestamp() >= since && parsed.timestamp() <= until && parsed.matches(term)) {
+            if (matches.size() >= limit) {
+                matches.pollFirst();
+            }
+            matches.addLast(line);
+        }
+    }
+
+    private static void drainNewestFirst(Deque<String> matches, List<String> lines) {
+        while (!matches.isEmpty()) {
+            lines.add(matches.pollLast());
+        }
+    }
+
+    private static AuditIndex readIndex(File segment) {
+        File indexFile = new File(segment.getParentFile(), segment.getName() + AuditIndex.INDEX_SUFFIX);
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        try {
+            return AuditIndex.read(indexFile);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package dev.lsdmc.edencells.security;
+
+import dev.lsdmc.edencells.EdenCells;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+
+public final class AuditWriter {
+
+    private static final int CAPACITY = 8192;
+    private static final int BATCH_BYTES = 64 * 1024;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long MAX_ACTIVE_BYTES = 8L * 1024 * 1024;
+
+    private final EdenCells plugin;
+    private final UnaryOperator<String> sanitizer;
+    private final AuditArchive archive;
+    private final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+
+    private final AtomicReferenceArray<AuditEntry> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0L;
+
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile File target;
+    private File openTarget;
+    private FileChannel channel;
+    private LocalDate activeDay;
+    private final StringBuilder pending = new StringBuilder(BATCH_BYTES);
+    private long lastFlush = System.nanoTime();
+
+    public record AuditEntry(long timestamp, String player, String action, String target, String details) {}
+
+    public record Stats(long accepted, long dropped, long written, long batches, int queued) {}
+
+    public AuditWriter(EdenCells plugin, File target, UnaryOperator<String> sanitizer, AuditArchive archive) {
+        this.plugin = plugin;
+        this.sanitizer = sanitizer;
+        this.archive = archive;
+        this.target = target;
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+        this.thread = new Thread(this::run, "EdenCells-Audit");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+
+    public boolean offer(AuditEntry entry) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & (CAPACITY - 1));
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, entry);
+                    sequences.set(index, position + 1);
+                    accepted.incrementAndGet();
+                    return true;
+                }
+            } else if (diff < 0) {
+                dropped.incrementAndGet();
+                return false;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public void setTarget(File target) {
+        this.target = target;
+    }
+
+    public Stats getStats() {
+        return new Stats(accepted.get(), dropped.get(), written.get(), batches.get(),
+            (int) Math.max(0, tail.get() - head));
+    }
+
+
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            plugin.getLogger().warning("Audit writer did not finish draining in time");
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() == 0) {
+                flushIfDue();
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+
+        drain();
+        flush();
+        closeChannel();
+    }
+
+
+    private int drain() {
+        int count = 0;
+        AuditEntry entry;
+        while ((entry = poll()) != null) {
+            append(entry);
+            count++;
+            if (pending.length() >= BATCH_BYTES) {
+                flush();
+            }
+        }
+        if (count > 0) {
+            flushIfDue();
+        }
+        return count;
+    }
+
+    private AuditEntry poll() {
+        int index = (int) (head & (CAPACITY - 1));
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        AuditEntry entry = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + CAPACITY);
+        head++;
+        return entry;
+    }
+
+    private void append(AuditEntry entry) {
+        String timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.timestamp()), ZoneId.systemDefault()).format(dateFormat);
+        pending.append('[').append(timestamp).append("] Player: ").append(sanitizer.apply(entry.player()))
+            .append(" | Action: ").append(sanitizer.apply(entry.action()))
+            .append(" | Target: ").append(entry.target() != null ? sanitizer.apply(entry.target()) : "N/A")
+            .append(" | Details: ").append(entry.details() != null ? sanitizer.apply(entry.details()) : "N/A")
+            .append(System.lineSeparator());
+        written.incrementAndGet();
+    }
+
+    private void flushIfDue() {
+        if (pending.length() > 0 && System.nanoTime() - lastFlush >= FLUSH_INTERVAL_NANOS) {
+            flush();
+        }
+    }
+
+
+    private void flush() {
+        lastFlush = System.nanoTime();
+        if (pending.length() == 0) {
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(pending.toString().getBytes(StandardCharsets.UTF_8));
+        pending.setLength(0);
+        try {
+            if (channel != null && !LocalDate.now().equals(activeDay)) {
+                rotate();
+            }
+            FileChannel out = channel();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            batches.incrementAndGet();
+            if (out.size() >= MAX_ACTIVE_BYTES) {
+                rotate();
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write audit log: " + e.getMessage());
+            closeChannel();
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        File current = target;
+        if (channel == null || !current.equals(openTarget)) {
+            closeChannel();
+            File parent = current.getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            LocalDate today = LocalDate.now();
+            if (current.isFile() && current.length() > 0 && !today.equals(dayOf(current.lastModified()))) {
+                archive.seal(current);
+            }
+            activeDay = today;
+            channel = FileChannel.open(current.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+            openTarget = current;
+        }
+        return channel;
+    }
+
+    private void rotate() {
+        File active = openTarget;
+        closeChannel();
+        if (active != null) {
+            archive.seal(active);
+        }
+    }
+
+    private static LocalDate dayOf(long millis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to close audit log: " + e.getMessage());
+        }
+        channel = null;
+        openTarget = null;
+    }
+}
@@ -0,0 +1,101 @@
+package dev.lsdmc.edencells.security;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+public final class RateLimiter {
+
+    private static final long MILLI = 1000L;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MAX_CAPACITY = TOKEN_MASK / MILLI;
+    private static final long EPOCH = System.nanoTime();
+
+    private final String action;
+    private final Map<UUID, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    private volatile long capacityMilli;
+    private volatile long refillIntervalMillis;
+
+    public record Stats(String action, int capacity, int refillPerMinute, int tracked, long allowed, long denied) {}
+
+    public RateLimiter(String action, int capacity, int refillPerMinute) {
+        this.action = action;
+        configure(capacity, refillPerMinute);
+    }
+
+
+    public void configure(int capacity, int refillPerMinute) {
+        this.capacityMilli = Math.max(1, Math.min(capacity, MAX_CAPACITY)) * MILLI;
+        this.refillIntervalMillis = Math.max(1L, TimeUnit.MINUTES.toMillis(1) / Math.max(1, refillPerMinute));
+    }
+
+
+    public boolean tryAcquire(UUID playerId) {
+        AtomicLong bucket = buckets.get(playerId);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(playerId, id -> new AtomicLong(pack(capacityMilli, now())));
+        }
+
+        long capacity = capacityMilli;
+        long interval = refillIntervalMillis;
+        while (true) {
+            long state = bucket.get();
+            long now = now();
+            long tokens = refill(state, now, capacity, interval);
+            if (tokens < MILLI) {
+                return false;
+            }
+            if (bucket.compareAndSet(state, pack(tokens - MILLI, now))) {
+                allowed.increment();
+                return true;
+            }
+        }
+    }
+
+    public void recordDenied() {
+        denied.increment();
+    }
+
+    public void reset(UUID playerId) {
+        buckets.remove(playerId);
+    }
+
+
+    public void cleanup() {
+        long now = now();
+        long capacity = capacityMilli;
+        long interval = refillIntervalMillis;
+        buckets.values().removeIf(bucket -> refill(bucket.get(), now, capacity, interval) >= capacity);
+    }
+
+    public Stats getStats() {
+        return new Stats(action, (int) (capacityMilli / MILLI), (int) (TimeUnit.MINUTES.toMillis(1) / refillIntervalMillis),
+            buckets.size(), allowed.sum(), denied.sum());
+    }
+
+
+    private static long refill(long state, long now, long capacity, long interval) {
+        long tokens = state & TOKEN_MASK;
+        long elapsed = now - (state >>> TOKEN_BITS);
+        if (elapsed <= 0 || tokens >= capacity) {
+            return Math.min(tokens, capacity);
+        }
+        return Math.min(capacity, tokens + elapsed * MILLI / interval);
+    }
+
+    private static long pack(long tokens, long now) {
+        return (now << TOKEN_BITS) | tokens;
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - EPOCH);
+    }
+}
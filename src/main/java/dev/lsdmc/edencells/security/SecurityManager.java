@@ -3,20 +3,18 @@ package dev.lsdmc.edencells.security;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.utils.ConfigManager;
 import dev.lsdmc.edencells.utils.Constants;
+import dev.lsdmc.edencells.utils.PermissionCache;
+import dev.lsdmc.edencells.utils.PermissionManager;
 import org.bukkit.entity.Player;
 import org.bukkit.permissions.Permissible;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -27,10 +25,28 @@ public final class SecurityManager {
     
     private final EdenCells plugin;
     private final Pattern regionIdPattern;
-    private final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    
+    private final AuditArchive auditArchive;
+    private final AuditWriter auditWriter;
+    private final BukkitTask auditMaintenanceTask;
+    private final Map<AggregateKey, AggregateCounter> aggregates = new ConcurrentHashMap<>();
+    private final BukkitTask aggregateFlushTask;
+    
+    private record AggregateKey(String player, String action, String target) {}
+    
+    private static final class AggregateCounter {
+        private final long windowStart;
+        private int count;
+        
+        private AggregateCounter(long windowStart) {
+            this.windowStart = windowStart;
+        }
+    }
     
     
-    private final Map<String, Cache<UUID, Integer>> rateLimiters = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final BukkitTask rateLimitCleanupTask;
     
     
     private final Cache<UUID, Long> teleportCooldowns;
@@ -41,20 +57,7 @@ public final class SecurityManager {
         this.regionIdPattern = Pattern.compile(plugin.getConfigManager().getRegionIdPattern());
         
         
-        rateLimiters.put("purchase", createRateLimiter(
-            plugin.getConfig().getInt("security.rate-limits.cell-purchase", Constants.RateLimits.PURCHASE_PER_MINUTE)));
-        rateLimiters.put("member_add", createRateLimiter(
-            plugin.getConfig().getInt("security.rate-limits.member-add", Constants.RateLimits.MEMBER_ADD_PER_MINUTE)));
-        rateLimiters.put("member_remove", createRateLimiter(
-            plugin.getConfig().getInt("security.rate-limits.member-remove", 5)));
-        rateLimiters.put("door_interact", createRateLimiter(
-            plugin.getConfig().getInt("security.rate-limits.door-interact", Constants.RateLimits.DOOR_INTERACT_PER_MINUTE)));
-        rateLimiters.put("gui_open", createRateLimiter(
-            plugin.getConfig().getInt("security.rate-limits.gui-open", Constants.RateLimits.GUI_OPEN_PER_MINUTE)));
-        rateLimiters.put("npc_interact", createRateLimiter(
-            plugin.getConfig().getInt("security.rate-limits.npc-interact", 10)));
-        rateLimiters.put("bulk_add", createRateLimiter(
-            plugin.getConfig().getInt("security.rate-limits.bulk-add", Constants.RateLimits.BULK_ADD_PER_MINUTE)));
+        reloadRateLimits();
         
         
         int cooldownSeconds = plugin.getConfigManager().getTeleportationCooldownSeconds();
@@ -62,14 +65,42 @@ public final class SecurityManager {
             .expireAfterWrite(cooldownSeconds, TimeUnit.SECONDS)
             .maximumSize(1000)
             .build();
+        
+        this.auditArchive = new AuditArchive(plugin);
+        this.auditWriter = new AuditWriter(plugin, getAuditFile(), this::sanitizeInput, auditArchive);
+        reloadAuditSettings();
+        
+        
+        this.auditMaintenanceTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin,
+            () -> auditArchive.maintain(getAuditFile(), plugin.getConfigManager().getAuditLogRetention()),
+            20L * 60, 20L * 60 * 60);
+        this.aggregateFlushTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin,
+            () -> flushAggregates(false), 20L, 20L);
+        this.rateLimitCleanupTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin,
+            this::cleanupRateLimits, 20L * 60 * 5, 20L * 60 * 5);
     }
     
     
-    private Cache<UUID, Integer> createRateLimiter(int maxPerMinute) {
-        return Caffeine.newBuilder()
-            .expireAfterWrite(1, TimeUnit.MINUTES)
-            .maximumSize(1000) 
-            .build();
+    public void reloadRateLimits() {
+        configureRateLimiter("purchase", "cell-purchase", Constants.RateLimits.PURCHASE_PER_MINUTE);
+        configureRateLimiter("member_add", "member-add", Constants.RateLimits.MEMBER_ADD_PER_MINUTE);
+        configureRateLimiter("member_remove", "member-remove", 5);
+        configureRateLimiter("door_interact", "door-interact", Constants.RateLimits.DOOR_INTERACT_PER_MINUTE);
+        configureRateLimiter("gui_open", "gui-open", Constants.RateLimits.GUI_OPEN_PER_MINUTE);
+        configureRateLimiter("npc_interact", "npc-interact", 10);
+        configureRateLimiter("bulk_add", "bulk-add", Constants.RateLimits.BULK_ADD_PER_MINUTE);
+    }
+    
+    private void configureRateLimiter(String action, String key, int defaultPerMinute) {
+        ConfigManager.RateLimit limit = plugin.getConfigManager().snapshot().rateLimits()
+            .getOrDefault(key, new ConfigManager.RateLimit(defaultPerMinute, defaultPerMinute));
+        
+        RateLimiter existing = rateLimiters.get(action);
+        if (existing != null) {
+            existing.configure(limit.capacity(), limit.refillPerMinute());
+        } else {
+            rateLimiters.put(action, new RateLimiter(action, limit.capacity(), limit.refillPerMinute()));
+        }
     }
     
     
@@ -118,34 +149,29 @@ public final class SecurityManager {
             return true; 
         }
         
-        
-        if (player.hasPermission(Constants.Permissions.BYPASS) || 
-            player.hasPermission(Constants.Permissions.BYPASS_RATE_LIMIT)) {
+        RateLimiter limiter = rateLimiters.get(action);
+        if (limiter == null) {
             return false;
         }
         
         
-        String specificBypass = getBypassPermissionForAction(action);
-        if (specificBypass != null && player.hasPermission(specificBypass)) {
+        PermissionCache permissions = plugin.getPermissionCache();
+        if (permissions.has(player, Constants.Permissions.BYPASS) || 
+            permissions.has(player, Constants.Permissions.BYPASS_RATE_LIMIT)) {
             return false;
         }
         
-        Cache<UUID, Integer> limiter = rateLimiters.get(action);
-        if (limiter == null) {
-            return false; 
+        
+        String specificBypass = getBypassPermissionForAction(action);
+        if (specificBypass != null && permissions.has(player, specificBypass)) {
+            return false;
         }
         
-        UUID playerId = player.getUniqueId();
-        int currentCount = limiter.get(playerId, key -> 0);
-        int maxAllowed = getMaxForAction(action);
-        
-        if (currentCount >= maxAllowed) {
-            return true;
+        if (limiter.tryAcquire(player.getUniqueId())) {
+            return false;
         }
-        
-        
-        limiter.put(playerId, currentCount + 1);
-        return false;
+        limiter.recordDenied();
+        return true;
     }
     
     
@@ -161,26 +187,13 @@ public final class SecurityManager {
     }
     
     
-    private int getMaxForAction(String action) {
-        return switch (action) {
-            case "purchase" -> plugin.getConfig().getInt("security.rate-limits.cell-purchase", Constants.RateLimits.PURCHASE_PER_MINUTE);
-            case "member_add" -> plugin.getConfig().getInt("security.rate-limits.member-add", Constants.RateLimits.MEMBER_ADD_PER_MINUTE);
-            case "member_remove" -> plugin.getConfig().getInt("security.rate-limits.member-remove", 5);
-            case "door_interact" -> plugin.getConfig().getInt("security.rate-limits.door-interact", Constants.RateLimits.DOOR_INTERACT_PER_MINUTE);
-            case "gui_open" -> plugin.getConfig().getInt("security.rate-limits.gui-open", Constants.RateLimits.GUI_OPEN_PER_MINUTE);
-            case "npc_interact" -> plugin.getConfig().getInt("security.rate-limits.npc-interact", 10);
-            case "bulk_add" -> plugin.getConfig().getInt("security.rate-limits.bulk-add", Constants.RateLimits.BULK_ADD_PER_MINUTE);
-            default -> 10; 
-        };
-    }
-    
-    
     public boolean isOnTeleportCooldown(Player player) {
         if (player == null) return true;
         
         
-        if (player.hasPermission(Constants.Permissions.BYPASS) || 
-            player.hasPermission(Constants.Permissions.BYPASS_COOLDOWN)) {
+        PermissionCache permissions = plugin.getPermissionCache();
+        if (permissions.has(player, Constants.Permissions.BYPASS) || 
+            permissions.has(player, Constants.Permissions.BYPASS_COOLDOWN)) {
             return false;
         }
         
@@ -217,46 +230,78 @@ public final class SecurityManager {
         }
         
         
-        if (!plugin.getConfig().getBoolean("security.audit.enabled", true)) {
+        ConfigManager.Snapshot config = plugin.getConfigManager().snapshot();
+        if (!config.auditEnabled()) {
             return;
         }
         
         
-        List<String> logActions = plugin.getConfig().getStringList("security.audit.log-actions");
-        if (!logActions.isEmpty() && !logActions.contains(action.toLowerCase())) {
+        String actionKey = action.toLowerCase(Locale.ROOT);
+        Set<String> logActions = config.auditActions();
+        if (!logActions.isEmpty() && !logActions.contains(actionKey)) {
             return;
         }
         
+        
+        if (config.auditAggregateWindows().containsKey(actionKey)) {
+            long now = System.currentTimeMillis();
+            aggregates.compute(new AggregateKey(player.getName(), actionKey, target), (key, counter) -> {
+                AggregateCounter current = counter != null ? counter : new AggregateCounter(now);
+                current.count++;
+                return current;
+            });
+            return;
+        }
         
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            try {
-                String logFileName = plugin.getConfig().getString("security.audit.log-file", Constants.Storage.AUDIT_LOG_FILE);
-                File auditFile = new File(plugin.getDataFolder(), logFileName);
-                
-                
-                if (!auditFile.getParentFile().exists()) {
-                    auditFile.getParentFile().mkdirs();
+        auditWriter.offer(new AuditWriter.AuditEntry(System.currentTimeMillis(), player.getName(), action, target, details));
+    }
+    
+    
+    public void reloadAuditSettings() {
+        auditWriter.setTarget(getAuditFile());
+    }
+    
+    
+    private void flushAggregates(boolean all) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> windows = plugin.getConfigManager().snapshot().auditAggregateWindows();
+        for (AggregateKey key : aggregates.keySet()) {
+            aggregates.computeIfPresent(key, (k, counter) -> {
+                long window = windows.getOrDefault(k.action(), 0L);
+                long elapsed = now - counter.windowStart;
+                if (!all && elapsed < window) {
+                    return counter;
                 }
-                
-                String timestamp = LocalDateTime.now().format(dateFormat);
-                String playerName = sanitizeInput(player.getName());
-                String actionSafe = sanitizeInput(action);
-                String targetSafe = target != null ? sanitizeInput(target) : "N/A";
-                String detailsSafe = details != null ? sanitizeInput(details) : "N/A";
-                
-                String logEntry = String.format("[%s] Player: %s | Action: %s | Target: %s | Details: %s%n",
-                    timestamp, playerName, actionSafe, targetSafe, detailsSafe);
-                
-                
-                Files.write(auditFile.toPath(), logEntry.getBytes(), 
-                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-                
-            } catch (IOException e) {
-                plugin.getLogger().warning("Failed to write audit log: " + e.getMessage());
-            } catch (Exception e) {
-                plugin.getLogger().severe("Unexpected error in audit logging: " + e.getMessage());
-            }
-        });
+                long seconds = Math.max(1, (all ? elapsed : window) / 1000);
+                auditWriter.offer(new AuditWriter.AuditEntry(now, k.player(), k.action(), k.target(),
+                    counter.count + " " + k.action().replace('_', ' ') + (counter.count == 1 ? " event" : " events")
+                        + " in " + seconds + "s"));
+                return null;
+            });
+        }
+    }
+    
+    
+    public AuditWriter.Stats getAuditStats() {
+        return auditWriter.getStats();
+    }
+    
+    
+    public AuditArchive getAuditArchive() {
+        return auditArchive;
+    }
+    
+    
+    public void shutdown() {
+        auditMaintenanceTask.cancel();
+        rateLimitCleanupTask.cancel();
+        aggregateFlushTask.cancel();
+        flushAggregates(true);
+        auditWriter.close();
+    }
+    
+    private File getAuditFile() {
+        return new File(plugin.getDataFolder(), plugin.getConfigManager().snapshot().auditLogFile());
     }
     
     
@@ -277,13 +322,13 @@ public final class SecurityManager {
             return false;
         }
         
-        return permissible.hasPermission(permission);
+        return PermissionManager.hasPermission(permissible, permission);
     }
     
     
     public void cleanupRateLimits() {
         
-        rateLimiters.values().forEach(cache -> cache.cleanUp());
+        rateLimiters.values().forEach(RateLimiter::cleanup);
         teleportCooldowns.cleanUp();
     }
     
@@ -294,8 +339,8 @@ public final class SecurityManager {
         UUID playerId = player.getUniqueId();
         
         
-        for (Cache<UUID, Integer> limiter : rateLimiters.values()) {
-            limiter.invalidate(playerId);
+        for (RateLimiter limiter : rateLimiters.values()) {
+            limiter.reset(playerId);
         }
         
         
@@ -307,9 +352,11 @@ public final class SecurityManager {
         StringBuilder stats = new StringBuilder();
         stats.append("Rate Limiter Statistics:\n");
         
-        for (var entry : rateLimiters.entrySet()) {
-            long size = entry.getValue().estimatedSize();
-            stats.append(String.format("- %s: %d active entries\n", entry.getKey(), size));
+        for (RateLimiter limiter : rateLimiters.values()) {
+            RateLimiter.Stats limiterStats = limiter.getStats();
+            stats.append(String.format("- %s: %d/%d per minute, %d active buckets, %d allowed, %d denied\n",
+                limiterStats.action(), limiterStats.capacity(), limiterStats.refillPerMinute(),
+                limiterStats.tracked(), limiterStats.allowed(), limiterStats.denied()));
         }
         
         stats.append(String.format("- teleport_cooldowns: %d active entries\n", 
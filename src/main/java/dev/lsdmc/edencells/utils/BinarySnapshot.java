@@ -0,0 +1,232 @@
+package dev.lsdmc.edencells.utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+
+public final class BinarySnapshot {
+
+    private static final int MAGIC = 0x45435342;
+    private static final int FORMAT_VERSION = 2;
+
+    private BinarySnapshot() {}
+
+
+    public static boolean isFresh(File binary, File yaml) {
+        if (!binary.isFile() || !yaml.isFile()) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(binary.toPath())))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                return false;
+            }
+            in.readUTF();
+            long sourceLength = in.readLong();
+            long sourceChecksum = in.readLong();
+            return sourceLength == yaml.length() && sourceChecksum == checksum(yaml);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static long checksum(File source) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] chunk = new byte[8192];
+        try (InputStream in = Files.newInputStream(source.toPath())) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                crc.update(chunk, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+
+    public static final class Writer {
+
+        private final String kind;
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        public Writer(String kind) {
+            this.kind = kind;
+        }
+
+        public Writer writeVarInt(int value) {
+            writeVarInt(body, value);
+            return this;
+        }
+
+        public Writer writeSignedVarInt(int value) {
+            writeVarInt(body, (value << 1) ^ (value >> 31));
+            return this;
+        }
+
+        public Writer writeDouble(double value) {
+            long bits = Double.doubleToLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                body.write((int) (bits >>> shift));
+            }
+            return this;
+        }
+
+
+        public Writer writeString(String value) {
+            if (value == null) {
+                writeVarInt(body, 0);
+                return this;
+            }
+            Integer id = stringIds.get(value);
+            if (id == null) {
+                id = strings.size();
+                strings.add(value);
+                stringIds.put(value, id);
+            }
+            writeVarInt(body, id + 1);
+            return this;
+        }
+
+
+        public void save(File target, File source) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.size() + strings.size() * 16 + 48);
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeInt(MAGIC);
+            header.writeByte(FORMAT_VERSION);
+            header.writeUTF(kind);
+            boolean hasSource = source != null && source.isFile();
+            header.writeLong(hasSource ? source.length() : -1L);
+            header.writeLong(hasSource ? checksum(source) : 0L);
+            header.flush();
+
+            writeVarInt(out, strings.size());
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+            body.writeTo(out);
+
+            File temp = new File(target.getParentFile(), target.getName() + ".tmp");
+            Files.write(temp.toPath(), out.toByteArray());
+            try {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        private static void writeVarInt(ByteArrayOutputStream out, int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+
+    public static final class Reader {
+
+        private final ByteBuffer buffer;
+        private final String[] strings;
+
+        private Reader(ByteBuffer buffer, String[] strings) {
+            this.buffer = buffer;
+            this.strings = strings;
+        }
+
+
+        public static Reader open(File source, String kind) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(source.toPath()));
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw new IOException("Not a snapshot file: " + source.getName());
+                }
+                int version = buffer.get();
+                if (version != FORMAT_VERSION) {
+                    throw new IOException("Unsupported snapshot version " + version + " in " + source.getName());
+                }
+                byte[] kindBytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(kindBytes);
+                String storedKind = new String(kindBytes, StandardCharsets.UTF_8);
+                if (!storedKind.equals(kind)) {
+                    throw new IOException("Snapshot " + source.getName() + " holds " + storedKind + ", expected " + kind);
+                }
+                buffer.getLong();
+                buffer.getLong();
+
+                String[] strings = new String[readVarInt(buffer)];
+                for (int i = 0; i < strings.length; i++) {
+                    int length = readVarInt(buffer);
+                    strings[i] = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + length);
+                }
+                return new Reader(buffer, strings);
+            } catch (RuntimeException e) {
+                throw new IOException("Corrupt snapshot " + source.getName() + ": " + e.getMessage(), e);
+            }
+        }
+
+        public int readVarInt() throws IOException {
+            try {
+                return readVarInt(buffer);
+            } catch (RuntimeException e) {
+                throw new IOException("Truncated snapshot", e);
+            }
+        }
+
+        public int readSignedVarInt() throws IOException {
+            int raw = readVarInt();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        public double readDouble() throws IOException {
+            try {
+                return buffer.getDouble();
+            } catch (RuntimeException e) {
+                throw new IOException("Truncated snapshot", e);
+            }
+        }
+
+
+        public String readString() throws IOException {
+            int id = readVarInt();
+            if (id == 0) {
+                return null;
+            }
+            if (id > strings.length) {
+                throw new IOException("Invalid string reference " + id);
+            }
+            return strings[id - 1];
+        }
+
+        private static int readVarInt(ByteBuffer buffer) {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint");
+        }
+    }
+}
@@ -1,30 +1,221 @@
 package dev.lsdmc.edencells.utils;
 
 import dev.lsdmc.edencells.EdenCells;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 public final class ConfigManager {
     
+    private static final Set<Material> DEFAULT_DOOR_MATERIALS = Collections.unmodifiableSet(EnumSet.of(
+        Material.IRON_DOOR, Material.OAK_DOOR, Material.SPRUCE_DOOR, Material.BIRCH_DOOR,
+        Material.JUNGLE_DOOR, Material.ACACIA_DOOR, Material.DARK_OAK_DOOR, Material.CRIMSON_DOOR,
+        Material.WARPED_DOOR, Material.IRON_TRAPDOOR));
+    
     private final EdenCells plugin;
     private FileConfiguration config;
+    private volatile Snapshot snapshot;
+    
+    
+    public record Snapshot(
+        boolean debug,
+        Component prefix,
+        TextColor primaryColor,
+        TextColor secondaryColor,
+        TextColor accentColor,
+        TextColor errorColor,
+        TextColor successColor,
+        TextColor neutralColor,
+        ConfiguredSound teleportSuccessSound,
+        ConfiguredSound teleportDeniedSound,
+        ConfiguredSound teleportErrorSound,
+        boolean doorSoundsEnabled,
+        Sound doorOpenSound,
+        Sound doorCloseSound,
+        float doorSoundVolume,
+        float doorSoundPitch,
+        Set<Material> doorMaterials,
+        Map<String, RateLimit> rateLimits,
+        boolean auditEnabled,
+        Set<String> auditActions,
+        Map<String, Long> auditAggregateWindows,
+        String auditLogFile,
+        boolean teleportationEnabled,
+        int teleportationCooldownSeconds,
+        int maxRegionIdLength,
+        double maxTransaction
+    ) {}
+    
+    public record ConfiguredSound(String name, Sound sound) {
+        
+        public void play(Player player, float volume, float pitch) {
+            if (sound != null) {
+                player.playSound(player.getLocation(), sound, volume, pitch);
+            } else {
+                player.getWorld().playSound(player.getLocation(), name, volume, pitch);
+            }
+        }
+    }
+    
+    public record RateLimit(int capacity, int refillPerMinute) {}
     
     public ConfigManager(EdenCells plugin) {
         this.plugin = plugin;
         this.config = plugin.getConfig();
+        this.snapshot = buildSnapshot();
     }
     
     
     public void reload() {
         plugin.reloadConfig();
         this.config = plugin.getConfig();
+        this.snapshot = buildSnapshot();
         plugin.getLogger().info("ConfigManager reloaded - config sections: " + 
             (config != null ? config.getKeys(false) : "NULL"));
     }
     
     
+    public void refresh() {
+        this.config = plugin.getConfig();
+        this.snapshot = buildSnapshot();
+    }
+    
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+    
+    
+    private Snapshot buildSnapshot() {
+        Component prefix;
+        try {
+            prefix = MiniMessage.miniMessage().deserialize(getPrefix());
+        } catch (Exception e) {
+            prefix = null;
+        }
+        
+        Map<String, RateLimit> rateLimits = new HashMap<>();
+        putRateLimit(rateLimits, "cell-purchase", Constants.RateLimits.PURCHASE_PER_MINUTE);
+        putRateLimit(rateLimits, "member-add", Constants.RateLimits.MEMBER_ADD_PER_MINUTE);
+        putRateLimit(rateLimits, "member-remove", 5);
+        putRateLimit(rateLimits, "door-interact", Constants.RateLimits.DOOR_INTERACT_PER_MINUTE);
+        putRateLimit(rateLimits, "gui-open", Constants.RateLimits.GUI_OPEN_PER_MINUTE);
+        putRateLimit(rateLimits, "npc-interact", 10);
+        putRateLimit(rateLimits, "bulk-add", Constants.RateLimits.BULK_ADD_PER_MINUTE);
+        
+        Map<String, Long> aggregateWindows = new HashMap<>();
+        ConfigurationSection aggregateSection = config.getConfigurationSection(Constants.Config.AUDIT_AGGREGATE_ACTIONS);
+        if (aggregateSection != null) {
+            for (String key : aggregateSection.getKeys(false)) {
+                int seconds = aggregateSection.getInt(key, 0);
+                if (seconds > 0) {
+                    aggregateWindows.put(key.toLowerCase(Locale.ROOT), seconds * 1000L);
+                }
+            }
+        }
+        
+        return new Snapshot(
+            isDebugEnabled(),
+            prefix,
+            parseColor(getPrimaryColor(), "#9D4EDD"),
+            parseColor(getSecondaryColor(), "#06FFA5"),
+            parseColor(getAccentColor(), "#FFB3C6"),
+            parseColor(getErrorColor(), "#FF6B6B"),
+            parseColor(getSuccessColor(), "#51CF66"),
+            parseColor(getNeutralColor(), "#ADB5BD"),
+            configuredSound(getTeleportationSoundSuccess()),
+            configuredSound(getTeleportationSoundDenied()),
+            configuredSound(getTeleportationSoundError()),
+            areDoorSoundsEnabled(),
+            parseSound(getDoorOpenSound(), Sound.BLOCK_IRON_DOOR_OPEN, "open"),
+            parseSound(getDoorCloseSound(), Sound.BLOCK_IRON_DOOR_CLOSE, "close"),
+            getDoorSoundVolume(),
+            getDoorSoundPitch(),
+            parseDoorMaterials(),
+            Map.copyOf(rateLimits),
+            isAuditEnabled(),
+            getAuditLogActions().stream()
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet()),
+            Map.copyOf(aggregateWindows),
+            config.getString(Constants.Config.AUDIT_LOG_FILE, Constants.Storage.AUDIT_LOG_FILE),
+            config.getBoolean("teleportation.enabled", true),
+            config.getInt("teleportation.cooldown-seconds", 1),
+            config.getInt("security.validation.max-region-id-length", 32),
+            config.getDouble("security.validation.max-transaction", 1000000.0)
+        );
+    }
+    
+    private void putRateLimit(Map<String, RateLimit> rateLimits, String key, int defaultPerMinute) {
+        String path = "security.rate-limits." + key;
+        ConfigurationSection section = config.getConfigurationSection(path);
+        if (section != null) {
+            int capacity = section.getInt("capacity", defaultPerMinute);
+            rateLimits.put(key, new RateLimit(capacity, section.getInt("refill-per-minute", capacity)));
+        } else {
+            int capacity = config.getInt(path, defaultPerMinute);
+            rateLimits.put(key, new RateLimit(capacity, capacity));
+        }
+    }
+    
+    private static TextColor parseColor(String hex, String fallback) {
+        try {
+            TextColor color = TextColor.fromHexString(hex);
+            return color != null ? color : TextColor.fromHexString(fallback);
+        } catch (Exception e) {
+            return TextColor.fromHexString(fallback);
+        }
+    }
+    
+    private static ConfiguredSound configuredSound(String name) {
+        try {
+            return new ConfiguredSound(name, Sound.valueOf(name));
+        } catch (IllegalArgumentException e) {
+            return new ConfiguredSound(name, null);
+        }
+    }
+    
+    private Sound parseSound(String name, Sound fallback, String label) {
+        try {
+            return Sound.valueOf(name.toUpperCase(Locale.ROOT).replace(".", "_"));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid " + label + " sound: " + name + ", using default");
+            return fallback;
+        }
+    }
+    
+    private Set<Material> parseDoorMaterials() {
+        List<String> names = getValidDoorMaterials();
+        if (names.isEmpty()) {
+            return DEFAULT_DOOR_MATERIALS;
+        }
+        
+        Set<Material> materials = EnumSet.noneOf(Material.class);
+        for (String name : names) {
+            try {
+                materials.add(Material.valueOf(name.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid door material: " + name);
+            }
+        }
+        return Collections.unmodifiableSet(materials);
+    }
+    
+    
     public void debugConfig() {
         plugin.getLogger().info("=== ConfigManager Debug ===");
         plugin.getLogger().info("Config instance: " + (config != null ? "NOT NULL" : "NULL"));
@@ -159,7 +350,7 @@ public final class ConfigManager {
     
     
     public boolean isTeleportationEnabled() {
-        return config.getBoolean("teleportation.enabled", true);
+        return snapshot.teleportationEnabled();
     }
     
     public double getTeleportationDefaultCost() {
@@ -167,7 +358,7 @@ public final class ConfigManager {
     }
     
     public int getTeleportationCooldownSeconds() {
-        return config.getInt("teleportation.cooldown-seconds", 1);
+        return snapshot.teleportationCooldownSeconds();
     }
     
     public List<String> getTeleportationFreeGroups() {
@@ -256,11 +447,12 @@ public final class ConfigManager {
     
     
     public int getRateLimit(String action) {
-        return config.getInt("security.rate-limits." + action, 10);
+        RateLimit limit = snapshot.rateLimits().get(action);
+        return limit != null ? limit.capacity() : config.getInt("security.rate-limits." + action, 10);
     }
     
     public int getMaxRegionIdLength() {
-        return config.getInt("security.validation.max-region-id-length", 32);
+        return snapshot.maxRegionIdLength();
     }
     
     public String getRegionIdPattern() {
@@ -268,7 +460,7 @@ public final class ConfigManager {
     }
     
     public double getMaxTransaction() {
-        return config.getDouble("security.validation.max-transaction", 1000000.0);
+        return snapshot.maxTransaction();
     }
     
     public boolean isAuditEnabled() {
@@ -276,7 +468,7 @@ public final class ConfigManager {
     }
     
     public String getAuditLogFile() {
-        return config.getString("security.audit.log-file", "logs/audit.log");
+        return snapshot.auditLogFile();
     }
     
     public List<String> getAuditLogActions() {
@@ -142,6 +142,7 @@ public final class Constants {
         public static final String AUDIT_ENABLED = "security.audit.enabled";
         public static final String AUDIT_LOG_FILE = "security.audit.log-file";
         public static final String AUDIT_LOG_ACTIONS = "security.audit.log-actions";
+        public static final String AUDIT_AGGREGATE_ACTIONS = "security.audit.aggregate-actions";
 
         
         public static final String ARM_USE_ECONOMY = "integrations.arm.use-arm-economy";
@@ -203,6 +204,7 @@ public final class Constants {
         public static final String REGION_ID_PATTERN = "^[a-zA-Z0-9_-]+$";
         public static final int MAX_REGION_ID_LENGTH = 32;
         public static final int MAX_USERNAME_LENGTH = 16;
+        public static final int MAX_TAB_COMPLETIONS = 50;
         public static final double MAX_ECONOMY_AMOUNT = 1000000.0;
     }
 
@@ -0,0 +1,141 @@
+package dev.lsdmc.edencells.utils;
+
+import dev.lsdmc.edencells.EdenCells;
+import org.bukkit.entity.Player;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+
+public final class LuckPermsAdapter {
+
+    private final EdenCells plugin;
+    private final Map<UUID, Set<String>> inheritedGroups = new ConcurrentHashMap<>();
+
+    private Object api;
+    private MethodHandle getUserManager;
+    private MethodHandle getUser;
+    private MethodHandle getQueryOptions;
+    private MethodHandle getInheritedGroups;
+    private MethodHandle getGroupName;
+    private volatile boolean available;
+
+    public LuckPermsAdapter(EdenCells plugin) {
+        this.plugin = plugin;
+    }
+
+
+    public boolean enable() {
+        if (plugin.getServer().getPluginManager().getPlugin("LuckPerms") == null) {
+            return false;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> luckPermsClass = Class.forName("net.luckperms.api.LuckPerms");
+            Class<?> userManagerClass = Class.forName("net.luckperms.api.model.user.UserManager");
+            Class<?> userClass = Class.forName("net.luckperms.api.model.user.User");
+            Class<?> holderClass = Class.forName("net.luckperms.api.model.PermissionHolder");
+            Class<?> queryOptionsClass = Class.forName("net.luckperms.api.query.QueryOptions");
+            Class<?> groupClass = Class.forName("net.luckperms.api.model.group.Group");
+            Class<?> eventBusClass = Class.forName("net.luckperms.api.event.EventBus");
+            Class<?> userEventClass = Class.forName("net.luckperms.api.event.user.UserDataRecalculateEvent");
+            Class<?> groupEventClass = Class.forName("net.luckperms.api.event.group.GroupDataRecalculateEvent");
+
+            this.api = Class.forName("net.luckperms.api.LuckPermsProvider").getMethod("get").invoke(null);
+            this.getUserManager = lookup.unreflect(luckPermsClass.getMethod("getUserManager"));
+            this.getUser = lookup.unreflect(userManagerClass.getMethod("getUser", UUID.class));
+            this.getQueryOptions = lookup.unreflect(holderClass.getMethod("getQueryOptions"));
+            this.getInheritedGroups = lookup.unreflect(holderClass.getMethod("getInheritedGroups", queryOptionsClass));
+            this.getGroupName = lookup.unreflect(groupClass.getMethod("getName"));
+
+            MethodHandle eventUser = lookup.unreflect(userEventClass.getMethod("getUser"));
+            MethodHandle userId = lookup.unreflect(userClass.getMethod("getUniqueId"));
+            Object eventBus = lookup.unreflect(luckPermsClass.getMethod("getEventBus")).invoke(api);
+            MethodHandle subscribe = lookup.unreflect(eventBusClass.getMethod("subscribe", Object.class, Class.class, Consumer.class));
+
+            Consumer<Object> onUserRecalculate = event -> {
+                try {
+                    invalidate((UUID) userId.invoke(eventUser.invoke(event)));
+                } catch (Throwable t) {
+                    invalidateAll();
+                }
+            };
+            Consumer<Object> onGroupRecalculate = event -> invalidateAll();
+            subscribe.invoke(eventBus, (Object) plugin, userEventClass, onUserRecalculate);
+            subscribe.invoke(eventBus, (Object) plugin, groupEventClass, onGroupRecalculate);
+
+            available = true;
+            plugin.debug("Hooked into LuckPerms for group membership checks");
+        } catch (Throwable t) {
+            available = false;
+            plugin.getLogger().warning("Failed to hook into LuckPerms, group: permissions will be denied: " + t.getMessage());
+        }
+        return available;
+    }
+
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public boolean isInGroup(Player player, String groupName) {
+        if (!available || player == null || groupName == null) {
+            return false;
+        }
+        UUID playerId = player.getUniqueId();
+        Set<String> groups = player.isOnline()
+            ? inheritedGroups.computeIfAbsent(playerId, this::loadGroups)
+            : loadGroups(playerId);
+        return groups != null && groups.contains(groupName.toLowerCase(Locale.ROOT));
+    }
+
+
+    public void invalidate(UUID playerId) {
+        inheritedGroups.remove(playerId);
+        PermissionCache permissionCache = plugin.getPermissionCache();
+        if (permissionCache != null) {
+            permissionCache.invalidate(playerId);
+        }
+    }
+
+    public void invalidateAll() {
+        inheritedGroups.clear();
+        PermissionCache permissionCache = plugin.getPermissionCache();
+        if (permissionCache != null) {
+            permissionCache.invalidateAll();
+        }
+    }
+
+    public void unload(UUID playerId) {
+        inheritedGroups.remove(playerId);
+    }
+
+    private Set<String> loadGroups(UUID playerId) {
+        try {
+            Object user = getUser.invoke(getUserManager.invoke(api), playerId);
+            if (user == null) {
+                return null;
+            }
+            Collection<?> groups = (Collection<?>) getInheritedGroups.invoke(user, getQueryOptions.invoke(user));
+            Set<String> names = new HashSet<>(groups.size() * 2);
+            for (Object group : groups) {
+                String name = (String) getGroupName.invoke(group);
+                if (name != null) {
+                    names.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+            return Set.copyOf(names);
+        } catch (Throwable t) {
+            plugin.debug("LuckPerms group lookup failed for " + playerId + ": " + t.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package dev.lsdmc.edencells.utils;
+
+import dev.lsdmc.edencells.EdenCells;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+public final class MessageCatalog {
+
+    private static final String MESSAGES_PATH = "teleportation.messages";
+    private static final String LOCALE_FOLDER = "messages";
+    private static final char SLOT_MARK = '\u0000';
+    private static final Pattern PLACEHOLDER = Pattern.compile("%([a-z0-9_]+)%");
+
+    private final EdenCells plugin;
+    private volatile String defaultLocale = "en_us";
+    private volatile Map<String, Map<String, Template>> locales = Map.of();
+
+    public record Arg(String name, String value) {
+
+        public static Arg of(String name, Object value) {
+            return new Arg(name, String.valueOf(value));
+        }
+    }
+
+    public MessageCatalog(EdenCells plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+
+    public void reload() {
+        Map<String, Map<String, Template>> compiled = new HashMap<>();
+        String configured = normalize(plugin.getConfigManager().getLocale());
+        compiled.put(configured, compileSection(plugin.getConfig().getConfigurationSection(MESSAGES_PATH)));
+
+        File folder = new File(plugin.getDataFolder(), LOCALE_FOLDER);
+        File[] files = folder.isDirectory() ? folder.listFiles((dir, name) -> name.endsWith(".yml")) : null;
+        if (files != null) {
+            for (File file : files) {
+                String locale = normalize(file.getName().substring(0, file.getName().length() - 4));
+                Map<String, Template> templates = compileSection(
+                    YamlConfiguration.loadConfiguration(file).getConfigurationSection(MESSAGES_PATH));
+                compiled.merge(locale, templates, (existing, added) -> {
+                    Map<String, Template> merged = new HashMap<>(existing);
+                    merged.putAll(added);
+                    return Map.copyOf(merged);
+                });
+            }
+        }
+
+        this.defaultLocale = configured;
+        this.locales = Map.copyOf(compiled);
+        plugin.debug("Compiled message templates for locales " + compiled.keySet());
+    }
+
+
+    public Component render(CommandSender sender, String key, Arg... args) {
+        Template template = template(sender, key);
+        return template != null ? template.render(args) : Component.text("Missing message: " + key);
+    }
+
+    public void send(CommandSender sender, String key, Arg... args) {
+        sender.sendMessage(render(sender, key, args));
+    }
+
+    private Template template(CommandSender sender, String key) {
+        Map<String, Map<String, Template>> current = locales;
+        if (sender instanceof Player player) {
+            String tag = normalize(player.locale().toString());
+            Template template = lookup(current.get(tag), key);
+            if (template == null) {
+                int split = tag.indexOf('_');
+                template = split > 0 ? lookup(current.get(tag.substring(0, split)), key) : null;
+            }
+            if (template != null) {
+                return template;
+            }
+        }
+        return lookup(current.get(defaultLocale), key);
+    }
+
+    private static Template lookup(Map<String, Template> templates, String key) {
+        return templates != null ? templates.get(key) : null;
+    }
+
+
+    private Map<String, Template> compileSection(ConfigurationSection section) {
+        if (section == null) {
+            return Map.of();
+        }
+        Map<String, Template> templates = new HashMap<>();
+        for (String key : section.getKeys(false)) {
+            String raw = section.getString(key);
+            if (raw == null) {
+                continue;
+            }
+            try {
+                templates.put(key, Template.compile(raw));
+            } catch (Exception e) {
+                plugin.getLogger().warning("Invalid message template '" + key + "': " + e.getMessage());
+            }
+        }
+        return Map.copyOf(templates);
+    }
+
+    private static String normalize(String locale) {
+        return locale == null ? "" : locale.replace('-', '_').toLowerCase(Locale.ROOT);
+    }
+
+
+    private record Template(Component root, boolean hasSlots) {
+
+        static Template compile(String raw) {
+            Matcher matcher = PLACEHOLDER.matcher(raw);
+            boolean hasSlots = matcher.find();
+            String source = hasSlots ? matcher.replaceAll(SLOT_MARK + "$1" + SLOT_MARK) : raw;
+            return new Template(MiniMessage.miniMessage().deserialize(source), hasSlots);
+        }
+
+        Component render(Arg... args) {
+            return hasSlots ? fill(root, args) : root;
+        }
+
+        private static Component fill(Component component, Arg[] args) {
+            Component result = component;
+            if (component instanceof TextComponent text && text.content().indexOf(SLOT_MARK) >= 0) {
+                result = text.content(substitute(text.content(), args));
+            }
+
+            HoverEvent<?> hover = component.hoverEvent();
+            if (hover != null && hover.action() == HoverEvent.Action.SHOW_TEXT) {
+                result = result.hoverEvent(HoverEvent.showText(fill((Component) hover.value(), args)));
+            }
+            ClickEvent click = component.clickEvent();
+            if (click != null && click.value().indexOf(SLOT_MARK) >= 0) {
+                result = result.clickEvent(ClickEvent.clickEvent(click.action(), substitute(click.value(), args)));
+            }
+            String insertion = component.insertion();
+            if (insertion != null && insertion.indexOf(SLOT_MARK) >= 0) {
+                result = result.insertion(substitute(insertion, args));
+            }
+
+            List<Component> children = component.children();
+            if (!children.isEmpty()) {
+                List<Component> filled = new ArrayList<>(children.size());
+                for (Component child : children) {
+                    filled.add(fill(child, args));
+                }
+                result = result.children(filled);
+            }
+            return result;
+        }
+
+        private static String substitute(String content, Arg[] args) {
+            StringBuilder out = new StringBuilder(content.length() + 16);
+            int position = 0;
+            int start;
+            while ((start = content.indexOf(SLOT_MARK, position)) >= 0) {
+                int end = content.indexOf(SLOT_MARK, start + 1);
+                if (end < 0) {
+                    break;
+                }
+                out.append(content, position, start).append(valueOf(content.substring(start + 1, end), args));
+                position = end + 1;
+            }
+            return out.append(content, position, content.length()).toString();
+        }
+
+        private static String valueOf(String name, Arg[] args) {
+            for (Arg arg : args) {
+                if (arg.name().equals(name)) {
+                    return arg.value();
+                }
+            }
+            return "%" + name + "%";
+        }
+    }
+}
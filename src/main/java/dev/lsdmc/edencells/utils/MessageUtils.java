@@ -1,5 +1,7 @@
 package dev.lsdmc.edencells.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import dev.lsdmc.edencells.EdenCells;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -13,45 +15,37 @@ import org.bukkit.entity.Player;
 
 public final class MessageUtils {
     
+    private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+    private static final Cache<String, Component> PARSED = Caffeine.newBuilder()
+        .maximumSize(1024)
+        .build();
     
-    private static final TextColor PRIMARY_FALLBACK = TextColor.fromHexString("#9D4EDD");
-    private static final TextColor SECONDARY_FALLBACK = TextColor.fromHexString("#06FFA5");
-    private static final TextColor ACCENT_FALLBACK = TextColor.fromHexString("#FFB3C6");
-    private static final TextColor ERROR_FALLBACK = TextColor.fromHexString("#FF6B6B");
-    private static final TextColor SUCCESS_FALLBACK = TextColor.fromHexString("#51CF66");
-    private static final TextColor NEUTRAL_FALLBACK = TextColor.fromHexString("#ADB5BD");
-
-    private static TextColor colorFromHex(String hex, TextColor fallback) {
-        try {
-            TextColor c = TextColor.fromHexString(hex);
-            return c != null ? c : fallback;
-        } catch (Exception e) {
-            return fallback;
-        }
+    private static ConfigManager.Snapshot settings() {
+        return EdenCells.getInstance().getConfigManager().snapshot();
     }
 
     private static TextColor primaryColor() {
-        return colorFromHex(EdenCells.getInstance().getConfigManager().getPrimaryColor(), PRIMARY_FALLBACK);
+        return settings().primaryColor();
     }
 
     private static TextColor secondaryColor() {
-        return colorFromHex(EdenCells.getInstance().getConfigManager().getSecondaryColor(), SECONDARY_FALLBACK);
+        return settings().secondaryColor();
     }
 
     private static TextColor accentColor() {
-        return colorFromHex(EdenCells.getInstance().getConfigManager().getAccentColor(), ACCENT_FALLBACK);
+        return settings().accentColor();
     }
 
     private static TextColor errorColor() {
-        return colorFromHex(EdenCells.getInstance().getConfigManager().getErrorColor(), ERROR_FALLBACK);
+        return settings().errorColor();
     }
 
     private static TextColor successColor() {
-        return colorFromHex(EdenCells.getInstance().getConfigManager().getSuccessColor(), SUCCESS_FALLBACK);
+        return settings().successColor();
     }
 
     private static TextColor neutralColor() {
-        return colorFromHex(EdenCells.getInstance().getConfigManager().getNeutralColor(), NEUTRAL_FALLBACK);
+        return settings().neutralColor();
     }
     
     private MessageUtils() {} 
@@ -229,7 +223,7 @@ public final class MessageUtils {
     
     
     public static Component fromMiniMessage(String message) {
-        return MiniMessage.miniMessage().deserialize(message);
+        return PARSED.get(message, MINI_MESSAGE::deserialize);
     }
     
     
@@ -248,17 +242,16 @@ public final class MessageUtils {
     
     
     public static Component prefix() {
-        try {
-            
-            String configuredPrefix = EdenCells.getInstance().getConfigManager().getPrefix();
-            return fromMiniMessage(configuredPrefix);
-        } catch (Exception e) {
-            
-            return Component.text("[")
-                .color(neutralColor())
-                .append(Component.text("EdenCells").color(primaryColor()))
-                .append(Component.text("] ").color(neutralColor()));
+        Component configuredPrefix = settings().prefix();
+        if (configuredPrefix != null) {
+            return configuredPrefix;
         }
+        
+        
+        return Component.text("[")
+            .color(neutralColor())
+            .append(Component.text("EdenCells").color(primaryColor()))
+            .append(Component.text("] ").color(neutralColor()));
     }
     
     
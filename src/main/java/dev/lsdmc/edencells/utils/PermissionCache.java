@@ -0,0 +1,109 @@
+package dev.lsdmc.edencells.utils;
+
+import dev.lsdmc.edencells.EdenCells;
+import dev.lsdmc.edencells.models.CellGroup;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+
+public final class PermissionCache {
+
+    private static final String[] SNAPSHOT_NODES = {
+        Constants.Permissions.ADMIN,
+        Constants.Permissions.BYPASS,
+        Constants.Permissions.BYPASS_COOLDOWN,
+        Constants.Permissions.BYPASS_PAYMENT,
+        Constants.Permissions.BYPASS_RATE_LIMIT,
+        Constants.Permissions.BYPASS_RATE_LIMIT_PURCHASE,
+        Constants.Permissions.BYPASS_RATE_LIMIT_MEMBER,
+        Constants.Permissions.BYPASS_RATE_LIMIT_DOOR,
+        Constants.Permissions.BYPASS_RATE_LIMIT_GUI,
+        Constants.Permissions.BYPASS_RATE_LIMIT_NPC,
+        Constants.Permissions.NPC_TELEPORT
+    };
+
+    private final EdenCells plugin;
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile long ttlMillis;
+
+    private static final class Snapshot {
+        private final long expiresAt;
+        private final Map<String, Boolean> nodes = new ConcurrentHashMap<>();
+
+        private Snapshot(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public PermissionCache(EdenCells plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+
+    public void reload() {
+        ttlMillis = TimeUnit.SECONDS.toMillis(Math.max(1, plugin.getConfigManager().getPlayerCacheTime()));
+        snapshots.clear();
+    }
+
+
+    public void load(Player player) {
+        Snapshot snapshot = new Snapshot(System.currentTimeMillis() + ttlMillis);
+        snapshots.put(player.getUniqueId(), snapshot);
+        for (String node : SNAPSHOT_NODES) {
+            snapshot.nodes.put(node, player.hasPermission(node));
+        }
+        if (plugin.getCellGroupManager() != null) {
+            for (CellGroup group : plugin.getCellGroupManager().getAllGroups().values()) {
+                String required = group.getRequiredPermission();
+                if (required != null && !required.trim().toLowerCase().startsWith("group:")) {
+                    snapshot.nodes.put(required.trim(), player.hasPermission(required.trim()));
+                }
+            }
+        }
+    }
+
+    public void unload(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    public void invalidate(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    public void invalidateAll() {
+        snapshots.clear();
+    }
+
+
+    public boolean has(Player player, String node) {
+        Snapshot snapshot = snapshot(player);
+        if (snapshot == null) {
+            return player.hasPermission(node);
+        }
+        Boolean cached = snapshot.nodes.get(node);
+        if (cached == null) {
+            cached = player.hasPermission(node);
+            snapshot.nodes.put(node, cached);
+        }
+        return cached;
+    }
+
+    private Snapshot snapshot(Player player) {
+        if (!player.isOnline()) {
+            return null;
+        }
+        UUID playerId = player.getUniqueId();
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = snapshots.get(playerId);
+        if (snapshot == null || snapshot.expiresAt <= now) {
+            snapshot = new Snapshot(now + ttlMillis);
+            snapshots.put(playerId, snapshot);
+        }
+        return snapshot;
+    }
+}
@@ -16,6 +16,10 @@ public final class PermissionManager {
             return false;
         }
 
+        EdenCells plugin = EdenCells.getInstance();
+        if (plugin != null && plugin.getPermissionCache() != null) {
+            return plugin.getPermissionCache().has(player, permission);
+        }
         return player.hasPermission(permission);
     }
 
@@ -25,6 +29,9 @@ public final class PermissionManager {
             return false;
         }
 
+        if (permissible instanceof Player player) {
+            return hasPermission(player, permission);
+        }
         return permissible.hasPermission(permission);
     }
 
@@ -105,43 +112,11 @@ public final class PermissionManager {
 
     
     private static boolean isInLuckPermsGroup(Player player, String groupName) {
-        try {
-            
-            if (EdenCells.getInstance().getServer().getPluginManager().getPlugin("LuckPerms") == null) {
-                return false;
-            }
-            String target = groupName.toLowerCase();
-            Class<?> providerClass = Class.forName("net.luckperms.api.LuckPermsProvider");
-            Object api = providerClass.getMethod("get").invoke(null);
-
-            Class<?> luckPermsClass = Class.forName("net.luckperms.api.LuckPerms");
-            Class<?> userManagerClass = Class.forName("net.luckperms.api.model.user.UserManager");
-            Class<?> userClass = Class.forName("net.luckperms.api.model.user.User");
-            Class<?> contextManagerClass = Class.forName("net.luckperms.api.context.ContextManager");
-            Class<?> queryOptionsClass = Class.forName("net.luckperms.api.query.QueryOptions");
-            Class<?> groupClass = Class.forName("net.luckperms.api.model.group.Group");
-
-            Object userManager = luckPermsClass.getMethod("getUserManager").invoke(api);
-            Object user = userManagerClass.getMethod("getUser", java.util.UUID.class).invoke(userManager, player.getUniqueId());
-            if (user == null) return false;
-
-            Object contextManager = luckPermsClass.getMethod("getContextManager").invoke(api);
-            Object queryOptions = contextManagerClass.getMethod("getQueryOptions", userClass).invoke(contextManager, user);
-            @SuppressWarnings("unchecked")
-            java.util.Collection<?> groups = (java.util.Collection<?>) userClass
-                .getMethod("getInheritedGroups", queryOptionsClass)
-                .invoke(user, queryOptions);
-
-            for (Object g : groups) {
-                String name = (String) groupClass.getMethod("getName").invoke(g);
-                if (name != null && name.equalsIgnoreCase(target)) {
-                    return true;
-                }
-            }
-            return false;
-        } catch (Throwable t) {
+        EdenCells plugin = EdenCells.getInstance();
+        if (plugin == null || plugin.getLuckPermsAdapter() == null) {
             return false;
         }
+        return plugin.getLuckPermsAdapter().isInGroup(player, groupName);
     }
 
     